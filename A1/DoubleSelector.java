@@ -0,0 +1,206 @@
+/**
+ * Defines a library of selection methods on arrays of doubles. The
+ * methods have the same contracts as those in Selector and work
+ * directly on the primitive array, without boxing.
+ *
+ * Values are ordered as by Double.compare: -0.0 is less than 0.0 and
+ * the two are distinct values, and NaN is greater than every other
+ * value, including positive infinity. All NaNs are treated as one
+ * value. So max returns NaN if a holds a NaN, and a range with
+ * high == Double.NaN includes the NaNs.
+ *
+ * Internally each double is mapped to a long whose signed order is
+ * that same order, and the long selection engine does the work.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class DoubleSelector {
+
+   private DoubleSelector() { }
+
+
+   /**
+    * Selects the minimum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static double min(double[] a) {
+      check(a);
+      long min = key(a[0]);
+      for (int i = 1; i < a.length; i++) {
+         min = Math.min(min, key(a[i]));
+      }
+      return value(min);
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static double max(double[] a) {
+      check(a);
+      long max = key(a[0]);
+      for (int i = 1; i < a.length; i++) {
+         max = Math.max(max, key(a[i]));
+      }
+      return value(max);
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth minimum value. The array a is not
+    * changed by this method.
+    */
+   public static double kmin(double[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] b = LongSelect.newTable(a.length);
+      int distinct = LongSelect.dedupe(keys(a), b);
+      if (k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return value(LongSelect.select(b, 0, distinct, k - 1));
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth maximum value. The array a is not
+    * changed by this method.
+    */
+   public static double kmax(double[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] b = LongSelect.newTable(a.length);
+      int distinct = LongSelect.dedupe(keys(a), b);
+      if (k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return value(LongSelect.select(b, 0, distinct, distinct - k));
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicate values, in the order they
+    * appear in a. If there are no qualifying values, this method
+    * returns a zero-length array. This method throws an
+    * IllegalArgumentException if a is null or has zero length.
+    * The array a is not changed by this method.
+    */
+   public static double[] range(double[] a, double low, double high) {
+      check(a);
+      long lo = key(low);
+      long hi = key(high);
+      int length = 0;
+      for (int i = 0; i < a.length; i++) {
+         long k = key(a[i]);
+         if (k >= lo && k <= hi) {
+            length++;
+         }
+      }
+      double[] range = new double[length];
+      int r = 0;
+      for (int i = 0; r < length; i++) {
+         long k = key(a[i]);
+         if (k >= lo && k <= hi) {
+            range[r++] = a[i];
+         }
+      }
+      return range;
+   }
+
+
+   /**
+    * Returns the smallest value in a that is greater than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static double ceiling(double[] a, double key) {
+      check(a);
+      long target = key(key);
+      boolean found = false;
+      long best = 0;
+      for (int i = 0; i < a.length; i++) {
+         long k = key(a[i]);
+         if (k >= target && (!found || k < best)) {
+            best = k;
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return value(best);
+   }
+
+
+   /**
+    * Returns the largest value in a that is less than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static double floor(double[] a, double key) {
+      check(a);
+      long target = key(key);
+      boolean found = false;
+      long best = 0;
+      for (int i = 0; i < a.length; i++) {
+         long k = key(a[i]);
+         if (k <= target && (!found || k > best)) {
+            best = k;
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return value(best);
+   }
+
+
+   /**
+    * Returns a long whose signed order matches Double.compare on d.
+    * Negative doubles have their magnitude bits flipped so that they
+    * sort in reverse; NaNs all map to the canonical NaN.
+    */
+   static long key(double d) {
+      long bits = Double.doubleToLongBits(d);
+      return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+   }
+
+
+   /** Returns the double that key maps from. */
+   static double value(long key) {
+      return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+   }
+
+
+   private static long[] keys(double[] a) {
+      long[] keys = new long[a.length];
+      for (int i = 0; i < a.length; i++) {
+         keys[i] = key(a[i]);
+      }
+      return keys;
+   }
+
+
+   private static void check(double[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
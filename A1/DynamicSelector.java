@@ -0,0 +1,215 @@
+import java.util.function.IntConsumer;
+
+/**
+ * Answers the Selector questions about a multiset of ints that
+ * changes between queries, such as a table of scores that are updated
+ * one at a time. Values are kept in an order-statistic treap, so add,
+ * remove, and update, and each of the queries, take expected
+ * O(log n) time in the number of distinct values. Nothing is copied
+ * or re-sorted when the values change.
+ *
+ * Like Selector, kmin and kmax count distinct values; size, count,
+ * rank, and rangeCount include duplicates.
+ *
+ * A DynamicSelector is not safe for use by more than one thread at a
+ * time.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class DynamicSelector implements IntConsumer {
+
+   /** Number of distinct values an empty selector has room for. */
+   private static final int INITIAL_CAPACITY = 16;
+
+   /** The values, with multiplicities. */
+   private final IntTreap tree;
+
+
+   /**
+    * Creates an empty selector.
+    */
+   public DynamicSelector() {
+      tree = new IntTreap(INITIAL_CAPACITY);
+   }
+
+
+   /**
+    * Creates a selector holding the values in a. This constructor
+    * throws IllegalArgumentException if a is null. The array a is not
+    * changed by this constructor.
+    */
+   public DynamicSelector(int[] a) {
+      if (a == null) {
+         throw new IllegalArgumentException();
+      }
+      tree = new IntTreap(Math.max(INITIAL_CAPACITY, a.length));
+      for (int v : a) {
+         tree.add(v);
+      }
+   }
+
+
+   /**
+    * Adds one copy of value.
+    */
+   @Override
+   public void accept(int value) {
+      tree.add(value);
+   }
+
+
+   /**
+    * Adds one copy of value.
+    */
+   public void add(int value) {
+      tree.add(value);
+   }
+
+
+   /**
+    * Removes one copy of value and returns true, or returns false if
+    * value is not present.
+    */
+   public boolean remove(int value) {
+      return tree.remove(value);
+   }
+
+
+   /**
+    * Replaces one copy of oldValue with newValue. This method throws
+    * IllegalArgumentException if oldValue is not present.
+    */
+   public void update(int oldValue, int newValue) {
+      if (!tree.remove(oldValue)) {
+         throw new IllegalArgumentException();
+      }
+      tree.add(newValue);
+   }
+
+
+   /**
+    * Returns the number of values, including duplicates.
+    */
+   public int size() {
+      return tree.size();
+   }
+
+
+   /**
+    * Returns the number of distinct values.
+    */
+   public int distinctCount() {
+      return tree.distinctSize();
+   }
+
+
+   /**
+    * Returns the number of copies of value.
+    */
+   public int count(int value) {
+      return tree.count(value);
+   }
+
+
+   /**
+    * Returns true if value is present.
+    */
+   public boolean contains(int value) {
+      return tree.count(value) > 0;
+   }
+
+
+   /**
+    * Selects the minimum value. This method throws
+    * IllegalArgumentException if the selector is empty.
+    */
+   public int min() {
+      return kmin(1);
+   }
+
+
+   /**
+    * Selects the maximum value. This method throws
+    * IllegalArgumentException if the selector is empty.
+    */
+   public int max() {
+      return kmax(1);
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value. This method throws
+    * IllegalArgumentException if there is no kth minimum value.
+    */
+   public int kmin(int k) {
+      if ((k < 1) || (k > tree.distinctSize())) {
+         throw new IllegalArgumentException();
+      }
+      return tree.kth(k);
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value. This method throws
+    * IllegalArgumentException if there is no kth maximum value.
+    */
+   public int kmax(int k) {
+      int d = tree.distinctSize();
+      if ((k < 1) || (k > d)) {
+         throw new IllegalArgumentException();
+      }
+      return tree.kth(d - k + 1);
+   }
+
+
+   /**
+    * Returns the number of values less than value, including
+    * duplicates.
+    */
+   public int rank(int value) {
+      return tree.countBelow(value);
+   }
+
+
+   /**
+    * Returns the number of values in the range [low..high], including
+    * duplicates.
+    */
+   public int rangeCount(int low, int high) {
+      if (high < low) {
+         return 0;
+      }
+      int upTo = (high == Integer.MAX_VALUE) ? tree.size() : tree.countBelow(high + 1);
+      return upTo - tree.countBelow(low);
+   }
+
+
+   /**
+    * Returns the smallest value that is greater than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int ceiling(int key) {
+      long c = tree.ceiling(key);
+      if (c == Long.MAX_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) c;
+   }
+
+
+   /**
+    * Returns the largest value that is less than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int floor(int key) {
+      long f = tree.floor(key);
+      if (f == Long.MIN_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) f;
+   }
+}
@@ -0,0 +1,196 @@
+import java.util.Arrays;
+
+/**
+ * Keeps the k smallest distinct ints offered to it. The values are
+ * held in a bounded max-heap whose top is the largest one kept, with
+ * an open addressing hash set of the heap's values to skip
+ * duplicates. Once the heap is full, most values are rejected by one
+ * comparison against the top, and a value that enters costs
+ * O(log k). Callers that want the largest values offer ~v instead
+ * of v, which reverses the order.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+final class IntDistinctHeap {
+
+   /** Multiplier used to spread hash codes (golden ratio). */
+   private static final int MIX = 0x9E3779B9;
+
+   /** Marks an empty slot in the hash set. */
+   private static final long EMPTY = Long.MIN_VALUE;
+
+   /** The values kept, as a max-heap in heap[0..size). */
+   private final int[] heap;
+   private int size;
+
+   /** The values in the heap, by linear probing, at most half full. */
+   private final long[] set;
+
+   /** The heap's values in ascending order, or null if out of date. */
+   private int[] sorted;
+
+
+   /**
+    * Creates an empty heap that keeps up to k values, where k >= 1.
+    */
+   IntDistinctHeap(int k) {
+      heap = new int[k];
+      int cap = Integer.highestOneBit(Math.max(2, 2 * k) - 1) << 1;
+      set = new long[cap];
+      Arrays.fill(set, EMPTY);
+   }
+
+
+   /**
+    * Keeps v if it is not already kept and is among the k smallest
+    * distinct values offered so far.
+    */
+   void offer(int v) {
+      int k = heap.length;
+      if ((size == k) && (v >= heap[0])) {
+         return;
+      }
+      if (contains(v)) {
+         return;
+      }
+      sorted = null;
+      if (size < k) {
+         // sift up
+         int c = size++;
+         while ((c > 0) && (heap[(c - 1) >>> 1] < v)) {
+            heap[c] = heap[(c - 1) >>> 1];
+            c = (c - 1) >>> 1;
+         }
+         heap[c] = v;
+      }
+      else {
+         remove(heap[0]);
+
+         // sift down from the top
+         int c = 0;
+         while (true) {
+            int child = 2 * c + 1;
+            if (child >= k) {
+               break;
+            }
+            if ((child + 1 < k) && (heap[child + 1] > heap[child])) {
+               child++;
+            }
+            if (heap[child] <= v) {
+               break;
+            }
+            heap[c] = heap[child];
+            c = child;
+         }
+         heap[c] = v;
+      }
+      add(v);
+   }
+
+
+   /**
+    * Offers every value kept by other. The other heap is not changed.
+    */
+   void offerAll(IntDistinctHeap other) {
+      for (int i = 0; i < other.size; i++) {
+         offer(other.heap[i]);
+      }
+   }
+
+
+   /**
+    * Returns the number of values kept.
+    */
+   int size() {
+      return size;
+   }
+
+
+   /**
+    * Returns the most values this heap keeps.
+    */
+   int capacity() {
+      return heap.length;
+   }
+
+
+   /**
+    * Returns the largest value kept, which once the heap is full is
+    * the kth smallest distinct value offered. The heap must not be
+    * empty.
+    */
+   int top() {
+      return heap[0];
+   }
+
+
+   /**
+    * Returns the values kept in ascending order. The array is cached
+    * until the next change and must not be modified.
+    */
+   int[] sorted() {
+      if (sorted == null) {
+         sorted = Arrays.copyOf(heap, size);
+         Arrays.sort(sorted);
+      }
+      return sorted;
+   }
+
+
+   /** Returns true if v is in the set. */
+   private boolean contains(int v) {
+      int mask = set.length - 1;
+      int slot = home(v, mask);
+      while (set[slot] != EMPTY) {
+         if (set[slot] == v) {
+            return true;
+         }
+         slot = (slot + 1) & mask;
+      }
+      return false;
+   }
+
+
+   /** Adds v, which must not be in the set already. */
+   private void add(int v) {
+      int mask = set.length - 1;
+      int slot = home(v, mask);
+      while (set[slot] != EMPTY) {
+         slot = (slot + 1) & mask;
+      }
+      set[slot] = v;
+   }
+
+
+   /** Removes v, shifting later entries of its probe run back. */
+   private void remove(int v) {
+      int mask = set.length - 1;
+      int slot = home(v, mask);
+      while (set[slot] != v) {
+         slot = (slot + 1) & mask;
+      }
+      int hole = slot;
+      int j = slot;
+      while (true) {
+         j = (j + 1) & mask;
+         if (set[j] == EMPTY) {
+            break;
+         }
+         int home = home((int) set[j], mask);
+
+         // move set[j] into the hole unless its home lies in (hole, j]
+         if (((j - home) & mask) >= ((j - hole) & mask)) {
+            set[hole] = set[j];
+            hole = j;
+         }
+      }
+      set[hole] = EMPTY;
+   }
+
+
+   private static int home(int v, int mask) {
+      return (v * MIX) >>> Integer.numberOfLeadingZeros(mask);
+   }
+}
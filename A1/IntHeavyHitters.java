@@ -0,0 +1,282 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Finds the most frequent values of a stream of ints in a fixed
+ * amount of memory, for data too large for Selector.mostFrequent.
+ * This is the Space-Saving algorithm: it keeps at most m counters,
+ * and a value that is not being counted takes over the counter with
+ * the smallest count, inheriting that count as its possible error.
+ *
+ * Every value that occurs more than n / m times in a stream of n
+ * values is sure to be counted, and each count is at most n / m too
+ * high. While no more than m distinct values have been seen, the
+ * counts are exact. accept takes O(log m) time and the counters take
+ * about 40 bytes each.
+ *
+ * An IntHeavyHitters is not safe for use by more than one thread at
+ * a time.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class IntHeavyHitters implements IntConsumer {
+
+   /** Marks an empty slot in the hash table. */
+   private static final long EMPTY = Long.MIN_VALUE;
+
+   /** Multiplier used to spread hash codes (golden ratio). */
+   private static final int MIX = 0x9E3779B9;
+
+   /** The value, count, and error of each counter. */
+   private final int[] values;
+   private final long[] counts;
+   private final long[] errors;
+
+   /** The counters as a min-heap on count, and where each one is. */
+   private final int[] heap;
+   private final int[] place;
+
+   /** Number of counters in use. */
+   private int size;
+
+   /** The counted values, and their counters, by linear probing. */
+   private final long[] slots;
+   private final int[] owners;
+
+   /** Number of values accepted so far. */
+   private long seen;
+
+
+   /**
+    * Creates an empty tracker with the given number of counters. This
+    * constructor throws IllegalArgumentException if capacity < 1 or
+    * capacity > 2^29.
+    */
+   public IntHeavyHitters(int capacity) {
+      if ((capacity < 1) || (capacity > (1 << 29))) {
+         throw new IllegalArgumentException();
+      }
+      values = new int[capacity];
+      counts = new long[capacity];
+      errors = new long[capacity];
+      heap = new int[capacity];
+      place = new int[capacity];
+      int cap = Integer.highestOneBit(Math.max(2, 2 * capacity) - 1) << 1;
+      slots = new long[cap];
+      owners = new int[cap];
+      Arrays.fill(slots, EMPTY);
+   }
+
+
+   /**
+    * Counts one occurrence of value.
+    */
+   @Override
+   public void accept(int value) {
+      seen++;
+      int slot = find(value);
+      if (slots[slot] != EMPTY) {
+         int c = owners[slot];
+         counts[c]++;
+         siftDown(place[c]);
+         return;
+      }
+      if (size < heap.length) {
+         int c = size++;
+         values[c] = value;
+         counts[c] = 1;
+         slots[slot] = value;
+         owners[slot] = c;
+         heap[c] = c;
+         place[c] = c;
+         siftUp(c);
+         return;
+      }
+
+      // take over the counter with the smallest count
+      int c = heap[0];
+      remove(values[c]);
+      values[c] = value;
+      errors[c] = counts[c];
+      counts[c]++;
+      slot = find(value);
+      slots[slot] = value;
+      owners[slot] = c;
+      siftDown(0);
+   }
+
+
+   /**
+    * Returns the number of values accepted so far.
+    */
+   public long count() {
+      return seen;
+   }
+
+
+   /**
+    * Returns the number of counters.
+    */
+   public int capacity() {
+      return heap.length;
+   }
+
+
+   /**
+    * Returns an upper bound on the number of times value has been
+    * accepted. The bound is exact if no more than capacity() distinct
+    * values have been accepted.
+    */
+   public long estimate(int value) {
+      int slot = find(value);
+      if (slots[slot] != EMPTY) {
+         return counts[owners[slot]];
+      }
+      return (size < heap.length) ? 0 : counts[heap[0]];
+   }
+
+
+   /**
+    * Returns a lower bound on the number of times value has been
+    * accepted, which is its count less the count it inherited.
+    */
+   public long guaranteed(int value) {
+      int slot = find(value);
+      if (slots[slot] == EMPTY) {
+         return 0;
+      }
+      int c = owners[slot];
+      return counts[c] - errors[c];
+   }
+
+
+   /**
+    * Returns the k counted values with the highest counts, highest
+    * first; values with equal counts are in ascending order. If fewer
+    * than k values are counted, all of them are returned. This method
+    * throws IllegalArgumentException if k < 1.
+    */
+   public int[] mostFrequent(int k) {
+      if (k < 1) {
+         throw new IllegalArgumentException();
+      }
+      int[] order = new int[size];
+      for (int i = 0; i < size; i++) {
+         order[i] = i;
+      }
+      sort(order, new int[size], 0, size);
+      int[] top = new int[Math.min(k, size)];
+      for (int i = 0; i < top.length; i++) {
+         top[i] = values[order[i]];
+      }
+      return top;
+   }
+
+
+   /** Merge sorts the counters order[from..to) by before. */
+   private void sort(int[] order, int[] scratch, int from, int to) {
+      if (to - from < 2) {
+         return;
+      }
+      int mid = (from + to) >>> 1;
+      sort(order, scratch, from, mid);
+      sort(order, scratch, mid, to);
+      System.arraycopy(order, from, scratch, from, to - from);
+      int i = from;
+      int j = mid;
+      for (int r = from; r < to; r++) {
+         if ((j == to) || ((i < mid) && !before(scratch[j], scratch[i]))) {
+            order[r] = scratch[i++];
+         }
+         else {
+            order[r] = scratch[j++];
+         }
+      }
+   }
+
+
+   /** Returns true if counter c is reported before counter d. */
+   private boolean before(int c, int d) {
+      return (counts[c] > counts[d])
+         || ((counts[c] == counts[d]) && (values[c] < values[d]));
+   }
+
+
+   private void siftUp(int i) {
+      int c = heap[i];
+      while (i > 0) {
+         int parent = (i - 1) >>> 1;
+         if (counts[heap[parent]] <= counts[c]) {
+            break;
+         }
+         heap[i] = heap[parent];
+         place[heap[i]] = i;
+         i = parent;
+      }
+      heap[i] = c;
+      place[c] = i;
+   }
+
+
+   private void siftDown(int i) {
+      int c = heap[i];
+      while (true) {
+         int child = 2 * i + 1;
+         if (child >= size) {
+            break;
+         }
+         if ((child + 1 < size) && (counts[heap[child + 1]] < counts[heap[child]])) {
+            child++;
+         }
+         if (counts[heap[child]] >= counts[c]) {
+            break;
+         }
+         heap[i] = heap[child];
+         place[heap[i]] = i;
+         i = child;
+      }
+      heap[i] = c;
+      place[c] = i;
+   }
+
+
+   /** Returns the slot holding v, or the empty slot where it would go. */
+   private int find(int v) {
+      int mask = slots.length - 1;
+      int slot = home(v, mask);
+      while ((slots[slot] != EMPTY) && (slots[slot] != v)) {
+         slot = (slot + 1) & mask;
+      }
+      return slot;
+   }
+
+
+   /** Removes v, shifting later entries of its probe run back. */
+   private void remove(int v) {
+      int mask = slots.length - 1;
+      int hole = find(v);
+      int j = hole;
+      while (true) {
+         j = (j + 1) & mask;
+         if (slots[j] == EMPTY) {
+            break;
+         }
+         int home = home((int) slots[j], mask);
+
+         // move slots[j] into the hole unless its home lies in (hole, j]
+         if (((j - home) & mask) >= ((j - hole) & mask)) {
+            slots[hole] = slots[j];
+            owners[hole] = owners[j];
+            hole = j;
+         }
+      }
+      slots[hole] = EMPTY;
+   }
+
+
+   private static int home(int v, int mask) {
+      return (v * MIX) >>> Integer.numberOfLeadingZeros(mask);
+   }
+}
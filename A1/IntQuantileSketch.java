@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Summarizes a stream of ints in bounded memory and answers
+ * approximate quantile and rank questions about it. This is a KLL
+ * sketch (Karnin, Lang, and Liberty): values are held in a stack of
+ * compactors, where an item at level h stands for 2^h values. When
+ * the sketch is over capacity, the lowest full compactor is sorted
+ * and every other item (starting at a random offset) is promoted to
+ * the next level, the rest being dropped.
+ *
+ * The accuracy parameter k sets the size of the top compactor; lower
+ * compactors shrink geometrically by 2/3. The normalized rank error
+ * is roughly 1.7 / k with high probability, and memory is O(k) items
+ * plus a few words per level.
+ *
+ * Unlike Selector.kmin, ranks and quantiles here count every value,
+ * including duplicates. min and max are exact. Sketches built with
+ * the same k on different threads can be combined with merge. A
+ * sketch is not safe for use by more than one thread at a time.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class IntQuantileSketch implements IntConsumer {
+
+   /** The default accuracy parameter. */
+   public static final int DEFAULT_K = 200;
+
+   /** How much smaller each compactor is than the one above it. */
+   private static final double SHRINK = 2.0 / 3.0;
+
+   private final int k;
+
+   /** levels[h][0..sizes[h]) are the items at level h. */
+   private int[][] levels;
+   private int[] sizes;
+
+   /** Items held over all levels, and how many the levels can hold. */
+   private int stored;
+   private int capacity;
+
+   private long count;
+   private int min = Integer.MAX_VALUE;
+   private int max = Integer.MIN_VALUE;
+
+   private long seed = 0x9E3779B97F4A7C15L;
+
+
+   /**
+    * Creates an empty sketch with the default accuracy.
+    */
+   public IntQuantileSketch() {
+      this(DEFAULT_K);
+   }
+
+
+   /**
+    * Creates an empty sketch with accuracy parameter k. This
+    * constructor throws IllegalArgumentException if k < 8.
+    */
+   public IntQuantileSketch(int k) {
+      if (k < 8) {
+         throw new IllegalArgumentException();
+      }
+      this.k = k;
+      levels = new int[][] {new int[k]};
+      sizes = new int[1];
+      capacity = k;
+   }
+
+
+   /**
+    * Same as update.
+    */
+   @Override
+   public void accept(int value) {
+      update(value);
+   }
+
+
+   /**
+    * Adds one value to the sketch.
+    */
+   public void update(int value) {
+      count++;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      push(0, value);
+      compress();
+   }
+
+
+   /**
+    * Adds every value summarized by other to this sketch and returns
+    * this sketch. The other sketch is not changed. This method throws
+    * IllegalArgumentException if other is null or was made with a
+    * different k.
+    */
+   public IntQuantileSketch merge(IntQuantileSketch other) {
+      if ((other == null) || (other.k != k)) {
+         throw new IllegalArgumentException();
+      }
+      if (other.count == 0) {
+         return this;
+      }
+      count += other.count;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      for (int h = 0; h < other.sizes.length; h++) {
+         for (int i = 0; i < other.sizes[h]; i++) {
+            push(h, other.levels[h][i]);
+         }
+      }
+      compress();
+      return this;
+   }
+
+
+   /**
+    * Returns the number of values added, including duplicates.
+    */
+   public long count() {
+      return count;
+   }
+
+
+   /**
+    * Returns the exact minimum value. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int min() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return min;
+   }
+
+
+   /**
+    * Returns the exact maximum value. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public int max() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return max;
+   }
+
+
+   /**
+    * Returns the approximate fraction of the values that are less
+    * than or equal to value, in [0..1]. This method throws
+    * IllegalArgumentException if the sketch is empty.
+    */
+   public double rank(int value) {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      long weight = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         long c = 0;
+         for (int i = 0; i < sizes[h]; i++) {
+            if (levels[h][i] <= value) {
+               c++;
+            }
+         }
+         weight += c << h;
+      }
+      return Math.min(1.0, (double) weight / count);
+   }
+
+
+   /**
+    * Returns an approximate q-quantile: a value whose normalized rank
+    * is about q. quantile(0) is the minimum and quantile(1) the
+    * maximum. This method throws IllegalArgumentException if the
+    * sketch is empty or if q is not in [0..1].
+    */
+   public int quantile(double q) {
+      if ((count == 0) || !(q >= 0.0) || !(q <= 1.0)) {
+         throw new IllegalArgumentException();
+      }
+      if (q == 0.0) {
+         return min;
+      }
+      if (q == 1.0) {
+         return max;
+      }
+
+      // items sorted by value, each tagged with its level
+      int n = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         n += sizes[h];
+      }
+      long[] items = new long[n];
+      n = 0;
+      for (int h = 0; h < sizes.length; h++) {
+         for (int i = 0; i < sizes[h]; i++) {
+            items[n++] = ((long) levels[h][i] << 8) | h;
+         }
+      }
+      Arrays.sort(items);
+
+      double target = q * count;
+      long weight = 0;
+      for (long item : items) {
+         weight += 1L << (item & 0xFF);
+         if (weight >= target) {
+            return (int) (item >> 8);
+         }
+      }
+      return max;
+   }
+
+
+   /** Appends v to level h, growing that level's buffer if needed. */
+   private void push(int h, int v) {
+      if (h == sizes.length) {
+         levels = Arrays.copyOf(levels, h + 1);
+         sizes = Arrays.copyOf(sizes, h + 1);
+         levels[h] = new int[capacity(h)];
+         capacity = 0;
+         for (int i = 0; i <= h; i++) {
+            capacity += capacity(i);
+         }
+      }
+      if (sizes[h] == levels[h].length) {
+         levels[h] = Arrays.copyOf(levels[h], levels[h].length * 2);
+      }
+      levels[h][sizes[h]++] = v;
+      stored++;
+   }
+
+
+   /** Compacts the lowest full levels until the sketch fits. */
+   private void compress() {
+      while (stored > capacity) {
+         for (int h = 0; h < sizes.length; h++) {
+            if (sizes[h] >= capacity(h)) {
+               compact(h);
+               break;
+            }
+         }
+      }
+   }
+
+
+   /**
+    * Sorts level h and promotes every other item to level h + 1. If
+    * the level holds an odd number of items, its largest item stays.
+    */
+   private void compact(int h) {
+      int[] items = levels[h];
+      int size = sizes[h];
+      Arrays.sort(items, 0, size);
+      int pairs = size & ~1;
+
+      // xorshift coin flip
+      seed ^= seed << 13;
+      seed ^= seed >>> 7;
+      seed ^= seed << 17;
+      int offset = (int) (seed & 1);
+
+      for (int i = offset; i < pairs; i += 2) {
+         push(h + 1, items[i]);
+      }
+      if (pairs < size) {
+         items[0] = items[size - 1];
+      }
+      sizes[h] = size - pairs;
+      stored -= pairs;
+   }
+
+
+   /** Returns the capacity of level h given the current height. */
+   private int capacity(int h) {
+      int depth = sizes.length - 1 - h;
+      return Math.max(2, (int) Math.ceil(k * Math.pow(SHRINK, Math.max(0, depth))));
+   }
+}
@@ -0,0 +1,120 @@
+import java.util.Random;
+
+/**
+ * Checks IntQuantileSketch against exact answers. Each run splits a
+ * shuffled array across several sketches, merges them, and requires
+ * every quantile and rank to be within the error bound of the exact
+ * values from Selector.kmin and Selector.rangeCount. Errors are
+ * normalized ranks, as in the sketch's own documentation. Run with
+ * no arguments; a failed check throws IllegalStateException.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public class IntQuantileSketchClient {
+
+   /** Allowed normalized rank error is ERROR_FACTOR / k. */
+   private static final double ERROR_FACTOR = 2.5;
+
+   /** Drives execution. */
+   public static void main(String[] args) {
+      Random random = new Random(2210);
+      int[] ks = {50, IntQuantileSketch.DEFAULT_K, 800};
+      for (int k : ks) {
+         // distinct values, so kmin's kth distinct is the kth smallest
+         check(k, distinct(1_000_000, random), 8, random);
+
+         // many duplicates; only ranks are checked exactly
+         int[] a = new int[500_000];
+         for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(1000) - 500;
+         }
+         checkRanks(k, a, 4, random);
+      }
+      System.out.println("IntQuantileSketch: all checks passed");
+   }
+
+
+   /** Checks quantiles against Selector.kmin and ranks against rangeCount. */
+   private static void check(int k, int[] a, int parts, Random random) {
+      IntQuantileSketch s = build(k, a, parts);
+      int n = a.length;
+      double worst = 0;
+      for (int p = 1; p < 100; p++) {
+         double q = p / 100.0;
+         int v = s.quantile(q);
+         int exact = Selector.kmin(a, (int) Math.ceil(q * n));
+         double err = Math.abs(rankOf(a, v) - rankOf(a, exact));
+         worst = Math.max(worst, err);
+      }
+      require(worst <= ERROR_FACTOR / k,
+         "k=" + k + ": quantile error " + worst);
+      require(s.quantile(0.0) == Selector.min(a), "k=" + k + ": quantile(0)");
+      require(s.quantile(1.0) == Selector.max(a), "k=" + k + ": quantile(1)");
+      System.out.println("k=" + k + " n=" + n + " worst quantile error " + worst);
+      checkRanks(k, a, parts, random);
+   }
+
+
+   /** Checks rank at random values of a against Selector.rangeCount. */
+   private static void checkRanks(int k, int[] a, int parts, Random random) {
+      IntQuantileSketch s = build(k, a, parts);
+      double worst = 0;
+      for (int t = 0; t < 200; t++) {
+         int v = a[random.nextInt(a.length)];
+         worst = Math.max(worst, Math.abs(s.rank(v) - rankOf(a, v)));
+      }
+      require(worst <= ERROR_FACTOR / k, "k=" + k + ": rank error " + worst);
+      System.out.println("k=" + k + " n=" + a.length + " worst rank error " + worst);
+   }
+
+
+   /** Builds one sketch per part over a striped split of a and merges them. */
+   private static IntQuantileSketch build(int k, int[] a, int parts) {
+      IntQuantileSketch[] sketches = new IntQuantileSketch[parts];
+      for (int p = 0; p < parts; p++) {
+         sketches[p] = new IntQuantileSketch(k);
+      }
+      for (int i = 0; i < a.length; i++) {
+         sketches[i % parts].accept(a[i]);
+      }
+      IntQuantileSketch s = sketches[0];
+      for (int p = 1; p < parts; p++) {
+         s.merge(sketches[p]);
+      }
+      require(s.count() == a.length, "k=" + k + ": count after merge");
+      require(s.min() == Selector.min(a), "k=" + k + ": min after merge");
+      require(s.max() == Selector.max(a), "k=" + k + ": max after merge");
+      return s;
+   }
+
+
+   /** Returns the exact fraction of the values in a that are <= v. */
+   private static double rankOf(int[] a, int v) {
+      return (double) Selector.rangeCount(a, Integer.MIN_VALUE, v) / a.length;
+   }
+
+
+   /** Returns n distinct values, spread out and shuffled. */
+   private static int[] distinct(int n, Random random) {
+      int[] a = new int[n];
+      for (int i = 0; i < n; i++) {
+         a[i] = 7 * i - 3 * n;
+      }
+      for (int i = n - 1; i > 0; i--) {
+         int j = random.nextInt(i + 1);
+         int t = a[i];
+         a[i] = a[j];
+         a[j] = t;
+      }
+      return a;
+   }
+
+
+   private static void require(boolean condition, String message) {
+      if (!condition) {
+         throw new IllegalStateException(message);
+      }
+   }
+}
@@ -0,0 +1,122 @@
+/**
+ * Defines the scan loops behind Selector.min, max, and range. Each is
+ * a plain counted loop over a[from..to). min and max keep a single
+ * accumulator, which is the shape the JIT compiler's reduction
+ * handling recognizes; splitting it by hand is slower.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+final class IntScan {
+
+   private IntScan() { }
+
+
+   /**
+    * Returns the minimum value in a[from..to), which must not be empty.
+    */
+   static int min(int[] a, int from, int to) {
+      int m = a[from];
+      for (int i = from + 1; i < to; i++) {
+         m = Math.min(m, a[i]);
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns the maximum value in a[from..to), which must not be empty.
+    */
+   static int max(int[] a, int from, int to) {
+      int m = a[from];
+      for (int i = from + 1; i < to; i++) {
+         m = Math.max(m, a[i]);
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns the minimum and maximum of a[from..to), which must not be
+    * empty, in one pass, packed as (min << 32) | (max & 0xFFFFFFFF).
+    */
+   static long minMax(int[] a, int from, int to) {
+      int min = a[from];
+      int max = min;
+      for (int i = from + 1; i < to; i++) {
+         min = Math.min(min, a[i]);
+         max = Math.max(max, a[i]);
+      }
+      return ((long) min << 32) | (max & 0xFFFFFFFFL);
+   }
+
+
+   /**
+    * Returns the number of values in a[from..to) that lie in
+    * [low..high]. The two comparisons are folded into one unsigned
+    * comparison against the width of the range.
+    */
+   static int count(int[] a, int from, int to, int low, int high) {
+      if (high < low) {
+         return 0;
+      }
+      int span = high - low;
+      int count = 0;
+      for (int i = from; i < to; i++) {
+         count += (Integer.compareUnsigned(a[i] - low, span) <= 0) ? 1 : 0;
+      }
+      return count;
+   }
+
+
+   /**
+    * Copies the values of a[from..to) that lie in [low..high] into
+    * dest starting at offset, in their original order, and returns
+    * the index after the last one written. Exactly n values qualify,
+    * and dest must have room for them. The loop stops as soon as n
+    * values are written.
+    */
+   static int compress(int[] a, int from, int to, int low, int high,
+                       int[] dest, int offset, int n) {
+      int span = high - low;
+      int r = offset;
+      int end = offset + n;
+      for (int i = from; (i < to) && (r < end); i++) {
+         if (Integer.compareUnsigned(a[i] - low, span) <= 0) {
+            dest[r++] = a[i];
+         }
+      }
+      return r;
+   }
+
+
+   /**
+    * Returns the smallest value in a[from..to) that is greater than or
+    * equal to key, or Long.MAX_VALUE if there is none.
+    */
+   static long ceiling(int[] a, int from, int to, int key) {
+      long best = Long.MAX_VALUE;
+      for (int i = from; i < to; i++) {
+         if (a[i] >= key) {
+            best = Math.min(best, a[i]);
+         }
+      }
+      return best;
+   }
+
+
+   /**
+    * Returns the largest value in a[from..to) that is less than or
+    * equal to key, or Long.MIN_VALUE if there is none.
+    */
+   static long floor(int[] a, int from, int to, int key) {
+      long best = Long.MIN_VALUE;
+      for (int i = from; i < to; i++) {
+         if (a[i] <= key) {
+            best = Math.max(best, a[i]);
+         }
+      }
+      return best;
+   }
+}
@@ -0,0 +1,435 @@
+import java.util.Arrays;
+
+/**
+ * Defines the selection engine used by Selector and the other
+ * int selection classes. Values are deduplicated with an open
+ * addressing hash table and the kth order statistic of the
+ * distinct values is found with introselect: quickselect with a
+ * median-of-three pivot, falling back to a median-of-medians pivot
+ * after 2 log2(n) partitioning steps. Both steps are expected O(n).
+ * The step budget does not check that the range shrank, so up to
+ * 2 log2(n) full passes can run before the fallback, and the worst
+ * case is O(n log n). Arrays of HASH_LIMIT values or more are sorted
+ * in place rather than hashed, since the table would be too full.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+final class IntSelect {
+
+   /** Segments this short are finished with an insertion sort. */
+   private static final int INSERTION_CUTOFF = 16;
+
+   /** Multiplier used to spread hash codes (golden ratio). */
+   private static final int MIX = 0x9E3779B9;
+
+   /** Value counts from here up are deduplicated by sorting. */
+   private static final int HASH_LIMIT = 1 << 29;
+
+   private IntSelect() { }
+
+
+   /**
+    * Returns a table large enough for dedupe to hold n values.
+    */
+   static int[] newTable(int n) {
+      if (n >= HASH_LIMIT) {
+         return new int[n];
+      }
+      int cap = Integer.highestOneBit(Math.max(4, n + (n >>> 1)) - 1) << 1;
+      return new int[cap];
+   }
+
+
+   /**
+    * Copies the distinct values of a[from..to) into the front of
+    * table and returns how many there are. The table must come from
+    * newTable(to - from) and be all zeros. The array a is not changed
+    * by this method.
+    */
+   static int dedupe(int[] a, int from, int to, int[] table) {
+      if (to - from >= HASH_LIMIT) {
+         return dedupeSorted(a, from, to, table);
+      }
+      int mask = table.length - 1;
+      int shift = Integer.numberOfLeadingZeros(mask);
+      boolean hasZero = false;
+
+      // 0 marks an empty slot, so it is tracked on the side
+      for (int i = from; i < to; i++) {
+         int v = a[i];
+         if (v == 0) {
+            hasZero = true;
+            continue;
+         }
+         int slot = (v * MIX) >>> shift;
+         while (table[slot] != 0 && table[slot] != v) {
+            slot = (slot + 1) & mask;
+         }
+         table[slot] = v;
+      }
+
+      // pack the occupied slots to the front
+      int d = 0;
+      for (int i = 0; i < table.length; i++) {
+         if (table[i] != 0) {
+            table[d++] = table[i];
+         }
+      }
+      if (hasZero) {
+         table[d++] = 0;
+      }
+      return d;
+   }
+
+
+   /**
+    * The dedupe of HASH_LIMIT or more values: copies a[from..to) into
+    * table, sorts it in place, and packs the runs to the front.
+    */
+   private static int dedupeSorted(int[] a, int from, int to, int[] table) {
+      int n = to - from;
+      System.arraycopy(a, from, table, 0, n);
+      Arrays.sort(table, 0, n);
+      int d = 1;
+      for (int i = 1; i < n; i++) {
+         if (table[i] != table[d - 1]) {
+            table[d++] = table[i];
+         }
+      }
+      return d;
+   }
+
+
+   /**
+    * Counts how many times each distinct value occurs in a. The
+    * distinct values are left in the front of keys and their counts
+    * at the same indices of counts, and the number of distinct values
+    * is returned. keys must come from newTable(a.length), counts must
+    * be as long, and both must be all zeros. The array a is not
+    * changed by this method.
+    */
+   static int frequencies(int[] a, int[] keys, int[] counts) {
+      if (a.length >= HASH_LIMIT) {
+         // sort, then turn each run into one key and its count
+         System.arraycopy(a, 0, keys, 0, a.length);
+         Arrays.sort(keys);
+         int d = 0;
+         for (int i = 0; i < keys.length; i++) {
+            if ((i > 0) && (keys[i] == keys[d - 1])) {
+               counts[d - 1]++;
+            }
+            else {
+               keys[d] = keys[i];
+               counts[d++] = 1;
+            }
+         }
+         return d;
+      }
+      int mask = keys.length - 1;
+      int shift = Integer.numberOfLeadingZeros(mask);
+      int zeros = 0;
+
+      // 0 marks an empty slot, so it is counted on the side
+      for (int i = 0; i < a.length; i++) {
+         int v = a[i];
+         if (v == 0) {
+            zeros++;
+            continue;
+         }
+         int slot = (v * MIX) >>> shift;
+         while (keys[slot] != 0 && keys[slot] != v) {
+            slot = (slot + 1) & mask;
+         }
+         keys[slot] = v;
+         counts[slot]++;
+      }
+
+      // pack the occupied slots to the front
+      int d = 0;
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] != 0) {
+            keys[d] = keys[i];
+            counts[d++] = counts[i];
+         }
+      }
+      if (zeros > 0) {
+         keys[d] = 0;
+         counts[d++] = zeros;
+      }
+      return d;
+   }
+
+
+   /**
+    * Returns the value that would be at a[from + rank] if a[from..to)
+    * were sorted. The values in a[from..to) are reordered.
+    */
+   static int select(int[] a, int from, int to, int rank) {
+      int target = from + rank;
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+      while (to - from > INSERTION_CUTOFF) {
+         int p;
+         if (depth-- > 0) {
+            p = medianOfThree(a[from], a[(from + to) >>> 1], a[to - 1]);
+         }
+         else {
+            p = medianOfMedians(a, from, to);
+         }
+
+         long bounds = partition(a, from, to, p);
+         int lt = (int) (bounds >>> 32);
+         int gt = (int) bounds;
+         if (target < lt) {
+            to = lt;
+         }
+         else if (target > gt) {
+            from = gt + 1;
+         }
+         else {
+            return p;
+         }
+      }
+      insertionSort(a, from, to);
+      return a[target];
+   }
+
+
+   /**
+    * Reorders a[from..to) so that for every sorted position in
+    * pos[plo..phi) the value at that position is the one that would
+    * be there if a[from..to) were sorted. The positions must be
+    * ascending and lie in [from..to). All the positions are resolved
+    * by one recursive multi-partition rather than one select each.
+    */
+   static void selectAll(int[] a, int from, int to, int[] pos, int plo, int phi) {
+      selectAll(a, from, to, pos, plo, phi,
+         2 * (32 - Integer.numberOfLeadingZeros(Math.max(1, to - from))));
+   }
+
+
+   private static void selectAll(int[] a, int from, int to, int[] pos,
+                                 int plo, int phi, int depth) {
+      while (plo < phi) {
+         if (to - from <= INSERTION_CUTOFF) {
+            insertionSort(a, from, to);
+            return;
+         }
+         int p;
+         if (depth-- > 0) {
+            p = medianOfThree(a[from], a[(from + to) >>> 1], a[to - 1]);
+         }
+         else {
+            p = medianOfMedians(a, from, to);
+         }
+         long bounds = partition(a, from, to, p);
+         int lt = (int) (bounds >>> 32);
+         int gt = (int) bounds;
+
+         // positions left of the pivot block, then right of it
+         int left = plo;
+         while (left < phi && pos[left] < lt) {
+            left++;
+         }
+         int right = left;
+         while (right < phi && pos[right] <= gt) {
+            right++;
+         }
+         if (left - plo < phi - right) {
+            selectAll(a, from, lt, pos, plo, left, depth);
+            from = gt + 1;
+            plo = right;
+         }
+         else {
+            selectAll(a, gt + 1, to, pos, right, phi, depth);
+            to = lt;
+            phi = left;
+         }
+      }
+   }
+
+
+   /**
+    * Three-way partitions a[from..to) around p and returns the bounds
+    * of the block equal to p, packed as (lt << 32) | gt. Afterwards
+    * a[from..lt) < p, a[lt..gt] == p, and a(gt..to) > p.
+    */
+   private static long partition(int[] a, int from, int to, int p) {
+      int lt = from;
+      int gt = to - 1;
+      int i = from;
+      while (i <= gt) {
+         if (a[i] < p) {
+            swap(a, lt++, i++);
+         }
+         else if (a[i] > p) {
+            swap(a, i, gt--);
+         }
+         else {
+            i++;
+         }
+      }
+      return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+   }
+
+
+   /**
+    * Returns a pivot value from a[from..to) that is guaranteed to
+    * have at least 30% of the values on either side of it.
+    */
+   private static int medianOfMedians(int[] a, int from, int to) {
+      int m = from;
+      for (int i = from; i < to; i += 5) {
+         int end = Math.min(i + 5, to);
+         insertionSort(a, i, end);
+         swap(a, m++, i + ((end - i) >>> 1));
+      }
+      return select(a, from, m, (m - from) >>> 1);
+   }
+
+
+   private static int medianOfThree(int x, int y, int z) {
+      if (x < y) {
+         return (y < z) ? y : Math.max(x, z);
+      }
+      return (x < z) ? x : Math.max(y, z);
+   }
+
+
+   static void insertionSort(int[] a, int from, int to) {
+      for (int i = from + 1; i < to; i++) {
+         int v = a[i];
+         int j = i - 1;
+         while (j >= from && a[j] > v) {
+            a[j + 1] = a[j];
+            j--;
+         }
+         a[j + 1] = v;
+      }
+   }
+
+
+   static void swap(int[] a, int i, int j) {
+      int t = a[i];
+      a[i] = a[j];
+      a[j] = t;
+   }
+
+
+   /**
+    * Sorts a with a least-significant-digit radix sort, one byte per
+    * pass. The sign bit is flipped on the last pass so negative
+    * values come first. Passes where every value has the same byte
+    * are skipped.
+    */
+   static void radixSort(int[] a) {
+      int[] src = a;
+      int[] dst = new int[a.length];
+      int[] counts = new int[257];
+      for (int shift = 0; shift < 32; shift += 8) {
+         int flip = (shift == 24) ? 0x80 : 0;
+         Arrays.fill(counts, 0);
+         for (int i = 0; i < src.length; i++) {
+            counts[(((src[i] >>> shift) & 0xFF) ^ flip) + 1]++;
+         }
+         if (counts[(((src[0] >>> shift) & 0xFF) ^ flip) + 1] == src.length) {
+            continue;
+         }
+         for (int b = 0; b < 256; b++) {
+            counts[b + 1] += counts[b];
+         }
+         for (int i = 0; i < src.length; i++) {
+            dst[counts[((src[i] >>> shift) & 0xFF) ^ flip]++] = src[i];
+         }
+         int[] t = src;
+         src = dst;
+         dst = t;
+      }
+      if (src != a) {
+         System.arraycopy(src, 0, a, 0, a.length);
+      }
+   }
+
+
+   /**
+    * Returns the index in the sorted array a of its kth smallest (or
+    * largest) distinct value, or -1 if a has fewer than k distinct
+    * values.
+    */
+   static int kthDistinct(int[] a, int k, boolean fromMin) {
+      int i = fromMin ? 0 : a.length - 1;
+      int step = fromMin ? 1 : -1;
+      int num = 1;
+      while (num < k) {
+         int j = i + step;
+         if ((j < 0) || (j >= a.length)) {
+            return -1;
+         }
+         if (a[j] != a[i]) {
+            num++;
+         }
+         i = j;
+      }
+      return i;
+   }
+
+
+   /**
+    * Returns a bit set with bit (v - min) set for every value v in a,
+    * where every value lies in [min..max].
+    */
+   static long[] presence(int[] a, int min, int max) {
+      long[] bits = new long[(int) ((((long) max - min) >>> 6) + 1)];
+      for (int i = 0; i < a.length; i++) {
+         int v = a[i] - min;
+         bits[v >>> 6] |= 1L << v;
+      }
+      return bits;
+   }
+
+
+   /**
+    * Returns the position of the nth set bit (counting from 1) in
+    * bits[base..base + words), from the low end or from the high end,
+    * or -1 if fewer than n bits are set.
+    */
+   static long nthBit(long[] bits, int base, int words, int n, boolean fromLow) {
+      for (int i = 0; i < words; i++) {
+         int w = fromLow ? i : words - 1 - i;
+         long word = bits[base + w];
+         int c = Long.bitCount(word);
+         if (n > c) {
+            n -= c;
+            continue;
+         }
+         for (int j = 1; j < n; j++) {
+            word = fromLow ? (word & (word - 1)) : (word & ~Long.highestOneBit(word));
+         }
+         int bit = fromLow ? Long.numberOfTrailingZeros(word) : 63 - Long.numberOfLeadingZeros(word);
+         return ((long) w << 6) | bit;
+      }
+      return -1;
+   }
+
+
+   /**
+    * Returns the kth smallest (or largest) distinct value in a, or
+    * Long.MAX_VALUE if a has fewer than k distinct values, without
+    * copying a. One pass offers every value to an IntDistinctHeap of
+    * size k, whose top is then the answer. O(n log k) time and O(k)
+    * space. For the largest values every v is replaced by ~v, which
+    * reverses the order.
+    */
+   static long kthSmallest(int[] a, int k, boolean fromMin) {
+      int flip = fromMin ? 0 : -1;
+      IntDistinctHeap heap = new IntDistinctHeap(k);
+      for (int i = 0; i < a.length; i++) {
+         heap.offer(a[i] ^ flip);
+      }
+      if (heap.size() < k) {
+         return Long.MAX_VALUE;
+      }
+      return heap.top() ^ flip;
+   }
+}
@@ -0,0 +1,172 @@
+import java.util.function.IntConsumer;
+
+/**
+ * Accumulates a stream of ints and answers the Selector questions
+ * min, max, kmin, and kmax about the values seen so far, without
+ * keeping the values themselves. The k smallest and k largest
+ * distinct values are kept in two bounded heaps, where k is fixed
+ * when the accumulator is made, so memory is O(k) however many
+ * values are accepted. The heaps are IntDistinctHeaps, as used by
+ * IntSelect.kthSmallest, so once a heap is full a value that cannot
+ * enter it is rejected with one comparison, and a value that can
+ * costs O(log k), whatever the order of the stream. kmin and kmax
+ * sort a copy of a heap the first time they are asked after it
+ * changes, in O(k log k).
+ *
+ * Accumulators filled on different threads can be combined with
+ * merge. An accumulator is not safe for use by more than one thread
+ * at a time.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class IntSelectorAccumulator implements IntConsumer {
+
+   /** The smallest distinct values seen. */
+   private final IntDistinctHeap low;
+
+   /** The complements (~v) of the largest distinct values seen. */
+   private final IntDistinctHeap high;
+
+   private long count;
+   private int min = Integer.MAX_VALUE;
+   private int max = Integer.MIN_VALUE;
+
+
+   /**
+    * Creates an empty accumulator that can answer kmin and kmax for
+    * every k up to maxK. This constructor throws
+    * IllegalArgumentException if maxK < 1.
+    */
+   public IntSelectorAccumulator(int maxK) {
+      if (maxK < 1) {
+         throw new IllegalArgumentException();
+      }
+      low = new IntDistinctHeap(maxK);
+      high = new IntDistinctHeap(maxK);
+   }
+
+
+   /**
+    * Adds one value.
+    */
+   @Override
+   public void accept(int value) {
+      count++;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      low.offer(value);
+      high.offer(~value);
+   }
+
+
+   /**
+    * Adds every value in a. This method throws
+    * IllegalArgumentException if a is null. The array a is not
+    * changed by this method.
+    */
+   public void acceptAll(int[] a) {
+      if (a == null) {
+         throw new IllegalArgumentException();
+      }
+      if (a.length == 0) {
+         return;
+      }
+      count += a.length;
+      min = Math.min(min, IntScan.min(a, 0, a.length));
+      max = Math.max(max, IntScan.max(a, 0, a.length));
+      for (int i = 0; i < a.length; i++) {
+         low.offer(a[i]);
+         high.offer(~a[i]);
+      }
+   }
+
+
+   /**
+    * Adds every value accepted by other to this accumulator and
+    * returns this accumulator. The other accumulator is not changed.
+    * This method throws IllegalArgumentException if other is null or
+    * was made with a different maxK.
+    */
+   public IntSelectorAccumulator merge(IntSelectorAccumulator other) {
+      if ((other == null) || (other.maxK() != maxK())) {
+         throw new IllegalArgumentException();
+      }
+      if (other.count == 0) {
+         return this;
+      }
+      count += other.count;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      low.offerAll(other.low);
+      high.offerAll(other.high);
+      return this;
+   }
+
+
+   /**
+    * Returns the number of values accepted, including duplicates.
+    */
+   public long count() {
+      return count;
+   }
+
+
+   /**
+    * Returns the largest k this accumulator can answer.
+    */
+   public int maxK() {
+      return low.capacity();
+   }
+
+
+   /**
+    * Returns the minimum value seen. This method throws
+    * IllegalArgumentException if no values have been accepted.
+    */
+   public int min() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return min;
+   }
+
+
+   /**
+    * Returns the maximum value seen. This method throws
+    * IllegalArgumentException if no values have been accepted.
+    */
+   public int max() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return max;
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value seen. This method throws
+    * IllegalArgumentException if k < 1, k > maxK(), or if fewer than
+    * k distinct values have been accepted.
+    */
+   public int kmin(int k) {
+      if ((k < 1) || (k > low.size())) {
+         throw new IllegalArgumentException();
+      }
+      return low.sorted()[k - 1];
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value seen. This method throws
+    * IllegalArgumentException if k < 1, k > maxK(), or if fewer than
+    * k distinct values have been accepted.
+    */
+   public int kmax(int k) {
+      if ((k < 1) || (k > high.size())) {
+         throw new IllegalArgumentException();
+      }
+      return ~high.sorted()[k - 1];
+   }
+}
@@ -0,0 +1,84 @@
+/**
+ * Holds the result of Selector.summary: the min and max of an array,
+ * and the count, smallest, and largest of its values in a range
+ * [low..high]. Instances are immutable.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class IntSummary {
+
+   private final int min;
+   private final int max;
+   private final int count;
+   private final int rangeMin;
+   private final int rangeMax;
+
+
+   IntSummary(int min, int max, int count, int rangeMin, int rangeMax) {
+      this.min = min;
+      this.max = max;
+      this.count = count;
+      this.rangeMin = rangeMin;
+      this.rangeMax = rangeMax;
+   }
+
+
+   /**
+    * Returns the minimum value in the array.
+    */
+   public int min() {
+      return min;
+   }
+
+
+   /**
+    * Returns the maximum value in the array.
+    */
+   public int max() {
+      return max;
+   }
+
+
+   /**
+    * Returns the number of values in the range, including duplicates.
+    */
+   public int count() {
+      return count;
+   }
+
+
+   /**
+    * Returns the smallest value in the range. This method throws
+    * IllegalArgumentException if no value is in the range.
+    */
+   public int rangeMin() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return rangeMin;
+   }
+
+
+   /**
+    * Returns the largest value in the range. This method throws
+    * IllegalArgumentException if no value is in the range.
+    */
+   public int rangeMax() {
+      if (count == 0) {
+         throw new IllegalArgumentException();
+      }
+      return rangeMax;
+   }
+
+
+   /**
+    * Returns a string representation of this summary.
+    */
+   @Override
+   public String toString() {
+      return "IntSummary[min=" + min + ", max=" + max + ", count=" + count
+         + ((count == 0) ? "]" : ", rangeMin=" + rangeMin + ", rangeMax=" + rangeMax + "]");
+   }
+}
@@ -0,0 +1,318 @@
+import java.util.Arrays;
+
+/**
+ * Defines an order-statistic multiset of ints, stored as a treap in
+ * parallel int arrays so no value is boxed. Each node holds one
+ * distinct value and its multiplicity, and each subtree records how
+ * many distinct values and how many values in all it holds, so the
+ * kth distinct value and the number of values below a key can be
+ * found by walking down from the root. add, remove, kth, countBelow,
+ * ceiling, and floor are all expected O(log n) in the number of
+ * distinct values.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+final class IntTreap {
+
+   /** Index of the empty subtree. */
+   private static final int NIL = 0;
+
+   private int[] key;
+   private int[] mult;
+   private int[] size;
+   private int[] total;
+   private int[] left;
+   private int[] right;
+   private int[] prio;
+
+   private int root = NIL;
+
+   /** Next never-used node, and the head of the list of freed nodes. */
+   private int next = 1;
+   private int free = NIL;
+
+   /** Set by remove when the value was found. */
+   private boolean removed;
+
+   private int seed = 0x2545F491;
+
+
+   /**
+    * Creates an empty treap with room for the given number of
+    * distinct values before it has to grow.
+    */
+   IntTreap(int capacity) {
+      int n = Math.max(2, capacity + 1);
+      key = new int[n];
+      mult = new int[n];
+      size = new int[n];
+      total = new int[n];
+      left = new int[n];
+      right = new int[n];
+      prio = new int[n];
+   }
+
+
+   /** Returns the number of distinct values. */
+   int distinctSize() {
+      return size[root];
+   }
+
+
+   /** Returns the number of values, including duplicates. */
+   int size() {
+      return total[root];
+   }
+
+
+   /** Adds one copy of v. */
+   void add(int v) {
+      root = insert(root, v);
+   }
+
+
+   /**
+    * Removes one copy of v and returns true, or returns false if v is
+    * not present.
+    */
+   boolean remove(int v) {
+      removed = false;
+      root = delete(root, v);
+      return removed;
+   }
+
+
+   /** Returns the number of copies of v. */
+   int count(int v) {
+      int t = root;
+      while (t != NIL) {
+         if (v < key[t]) {
+            t = left[t];
+         }
+         else if (v > key[t]) {
+            t = right[t];
+         }
+         else {
+            return mult[t];
+         }
+      }
+      return 0;
+   }
+
+
+   /**
+    * Returns the kth smallest distinct value, where 1 <= k <=
+    * distinctSize().
+    */
+   int kth(int k) {
+      int t = root;
+      while (true) {
+         int l = size[left[t]];
+         if (k <= l) {
+            t = left[t];
+         }
+         else if (k == l + 1) {
+            return key[t];
+         }
+         else {
+            k -= l + 1;
+            t = right[t];
+         }
+      }
+   }
+
+
+   /**
+    * Returns the number of values less than v, including duplicates.
+    */
+   int countBelow(int v) {
+      int below = 0;
+      int t = root;
+      while (t != NIL) {
+         if (key[t] < v) {
+            below += total[t] - total[right[t]];
+            t = right[t];
+         }
+         else {
+            t = left[t];
+         }
+      }
+      return below;
+   }
+
+
+   /**
+    * Returns the smallest value >= v, or Long.MAX_VALUE if there is
+    * none.
+    */
+   long ceiling(int v) {
+      long best = Long.MAX_VALUE;
+      int t = root;
+      while (t != NIL) {
+         if (key[t] >= v) {
+            best = key[t];
+            t = left[t];
+         }
+         else {
+            t = right[t];
+         }
+      }
+      return best;
+   }
+
+
+   /**
+    * Returns the largest value <= v, or Long.MIN_VALUE if there is
+    * none.
+    */
+   long floor(int v) {
+      long best = Long.MIN_VALUE;
+      int t = root;
+      while (t != NIL) {
+         if (key[t] <= v) {
+            best = key[t];
+            t = right[t];
+         }
+         else {
+            t = left[t];
+         }
+      }
+      return best;
+   }
+
+
+   private int insert(int t, int v) {
+      if (t == NIL) {
+         return newNode(v);
+      }
+      if (v < key[t]) {
+         // grow may replace the arrays, so insert before indexing them
+         int l = insert(left[t], v);
+         left[t] = l;
+         if (prio[left[t]] > prio[t]) {
+            t = rotateRight(t);
+         }
+      }
+      else if (v > key[t]) {
+         int r = insert(right[t], v);
+         right[t] = r;
+         if (prio[right[t]] > prio[t]) {
+            t = rotateLeft(t);
+         }
+      }
+      else {
+         mult[t]++;
+      }
+      update(t);
+      return t;
+   }
+
+
+   private int delete(int t, int v) {
+      if (t == NIL) {
+         return NIL;
+      }
+      if (v < key[t]) {
+         left[t] = delete(left[t], v);
+      }
+      else if (v > key[t]) {
+         right[t] = delete(right[t], v);
+      }
+      else {
+         removed = true;
+         if (--mult[t] == 0) {
+            int joined = merge(left[t], right[t]);
+            left[t] = free;
+            free = t;
+            return joined;
+         }
+      }
+      update(t);
+      return t;
+   }
+
+
+   /** Joins two treaps where every key in a is below every key in b. */
+   private int merge(int a, int b) {
+      if (a == NIL) {
+         return b;
+      }
+      if (b == NIL) {
+         return a;
+      }
+      if (prio[a] > prio[b]) {
+         right[a] = merge(right[a], b);
+         update(a);
+         return a;
+      }
+      left[b] = merge(a, left[b]);
+      update(b);
+      return b;
+   }
+
+
+   private int rotateRight(int t) {
+      int l = left[t];
+      left[t] = right[l];
+      right[l] = t;
+      update(t);
+      return l;
+   }
+
+
+   private int rotateLeft(int t) {
+      int r = right[t];
+      right[t] = left[r];
+      left[r] = t;
+      update(t);
+      return r;
+   }
+
+
+   private void update(int t) {
+      size[t] = size[left[t]] + size[right[t]] + 1;
+      total[t] = total[left[t]] + total[right[t]] + mult[t];
+   }
+
+
+   private int newNode(int v) {
+      int t;
+      if (free != NIL) {
+         t = free;
+         free = left[t];
+      }
+      else {
+         if (next == key.length) {
+            grow();
+         }
+         t = next++;
+      }
+      key[t] = v;
+      mult[t] = 1;
+      size[t] = 1;
+      total[t] = 1;
+      left[t] = NIL;
+      right[t] = NIL;
+
+      // xorshift
+      seed ^= seed << 13;
+      seed ^= seed >>> 17;
+      seed ^= seed << 5;
+      prio[t] = seed;
+      return t;
+   }
+
+
+   private void grow() {
+      int n = key.length * 2;
+      key = Arrays.copyOf(key, n);
+      mult = Arrays.copyOf(mult, n);
+      size = Arrays.copyOf(size, n);
+      total = Arrays.copyOf(total, n);
+      left = Arrays.copyOf(left, n);
+      right = Arrays.copyOf(right, n);
+      prio = Arrays.copyOf(prio, n);
+   }
+}
@@ -0,0 +1,175 @@
+import java.util.Arrays;
+
+/**
+ * Defines the selection engine used by LongSelector and
+ * DoubleSelector. It is the long counterpart of IntSelect: values
+ * are deduplicated with an open addressing hash table, or by sorting
+ * when there are HASH_LIMIT or more of them, and the kth distinct
+ * value is found with introselect.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+final class LongSelect {
+
+   /** Segments this short are finished with an insertion sort. */
+   private static final int INSERTION_CUTOFF = 16;
+
+   /** Value counts from here up are deduplicated by sorting. */
+   private static final int HASH_LIMIT = 1 << 29;
+
+   /** Multiplier used to spread hash codes (golden ratio). */
+   private static final long MIX = 0x9E3779B97F4A7C15L;
+
+   private LongSelect() { }
+
+
+   /**
+    * Returns a table large enough for dedupe to hold n values.
+    */
+   static long[] newTable(int n) {
+      if (n >= HASH_LIMIT) {
+         return new long[n];
+      }
+      int cap = Integer.highestOneBit(Math.max(4, n + (n >>> 1)) - 1) << 1;
+      return new long[cap];
+   }
+
+
+   /**
+    * Copies the distinct values of a into the front of table and
+    * returns how many there are. The table must come from
+    * newTable(a.length) and be all zeros. The array a is not changed
+    * by this method.
+    */
+   static int dedupe(long[] a, long[] table) {
+      if (a.length >= HASH_LIMIT) {
+         // too many values to hash with room to spare; sort in place
+         System.arraycopy(a, 0, table, 0, a.length);
+         Arrays.sort(table, 0, a.length);
+         int d = 1;
+         for (int i = 1; i < a.length; i++) {
+            if (table[i] != table[d - 1]) {
+               table[d++] = table[i];
+            }
+         }
+         return d;
+      }
+      int mask = table.length - 1;
+      int shift = Long.numberOfLeadingZeros(mask);
+      boolean hasZero = false;
+
+      // 0 marks an empty slot, so it is tracked on the side
+      for (int i = 0; i < a.length; i++) {
+         long v = a[i];
+         if (v == 0) {
+            hasZero = true;
+            continue;
+         }
+         int slot = (int) ((v * MIX) >>> shift);
+         while (table[slot] != 0 && table[slot] != v) {
+            slot = (slot + 1) & mask;
+         }
+         table[slot] = v;
+      }
+
+      // pack the occupied slots to the front
+      int d = 0;
+      for (int i = 0; i < table.length; i++) {
+         if (table[i] != 0) {
+            table[d++] = table[i];
+         }
+      }
+      if (hasZero) {
+         table[d++] = 0;
+      }
+      return d;
+   }
+
+
+   /**
+    * Returns the value that would be at a[from + rank] if a[from..to)
+    * were sorted. The values in a[from..to) are reordered.
+    */
+   static long select(long[] a, int from, int to, int rank) {
+      int target = from + rank;
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+      while (to - from > INSERTION_CUTOFF) {
+         long p;
+         if (depth-- > 0) {
+            p = medianOfThree(a[from], a[(from + to) >>> 1], a[to - 1]);
+         }
+         else {
+            p = medianOfMedians(a, from, to);
+         }
+
+         // three-way partition around p
+         int lt = from;
+         int gt = to - 1;
+         int i = from;
+         while (i <= gt) {
+            if (a[i] < p) {
+               swap(a, lt++, i++);
+            }
+            else if (a[i] > p) {
+               swap(a, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+
+         if (target < lt) {
+            to = lt;
+         }
+         else if (target > gt) {
+            from = gt + 1;
+         }
+         else {
+            return p;
+         }
+      }
+      insertionSort(a, from, to);
+      return a[target];
+   }
+
+
+   private static long medianOfMedians(long[] a, int from, int to) {
+      int m = from;
+      for (int i = from; i < to; i += 5) {
+         int end = Math.min(i + 5, to);
+         insertionSort(a, i, end);
+         swap(a, m++, i + ((end - i) >>> 1));
+      }
+      return select(a, from, m, (m - from) >>> 1);
+   }
+
+
+   private static long medianOfThree(long x, long y, long z) {
+      if (x < y) {
+         return (y < z) ? y : Math.max(x, z);
+      }
+      return (x < z) ? x : Math.max(y, z);
+   }
+
+
+   private static void insertionSort(long[] a, int from, int to) {
+      for (int i = from + 1; i < to; i++) {
+         long v = a[i];
+         int j = i - 1;
+         while (j >= from && a[j] > v) {
+            a[j + 1] = a[j];
+            j--;
+         }
+         a[j + 1] = v;
+      }
+   }
+
+
+   private static void swap(long[] a, int i, int j) {
+      long t = a[i];
+      a[i] = a[j];
+      a[j] = t;
+   }
+}
@@ -0,0 +1,163 @@
+/**
+ * Defines a library of selection methods on arrays of longs. The
+ * methods have the same contracts as those in Selector and work
+ * directly on the primitive array, without boxing.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class LongSelector {
+
+   private LongSelector() { }
+
+
+   /**
+    * Selects the minimum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static long min(long[] a) {
+      check(a);
+      long min = a[0];
+      for (int i = 1; i < a.length; i++) {
+         min = Math.min(min, a[i]);
+      }
+      return min;
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static long max(long[] a) {
+      check(a);
+      long max = a[0];
+      for (int i = 1; i < a.length; i++) {
+         max = Math.max(max, a[i]);
+      }
+      return max;
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth minimum value. The array a is not
+    * changed by this method.
+    */
+   public static long kmin(long[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] b = LongSelect.newTable(a.length);
+      int distinct = LongSelect.dedupe(a, b);
+      if (k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return LongSelect.select(b, 0, distinct, k - 1);
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth maximum value. The array a is not
+    * changed by this method.
+    */
+   public static long kmax(long[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] b = LongSelect.newTable(a.length);
+      int distinct = LongSelect.dedupe(a, b);
+      if (k > distinct) {
+         throw new IllegalArgumentException();
+      }
+      return LongSelect.select(b, 0, distinct, distinct - k);
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicate values, in the order they
+    * appear in a. If there are no qualifying values, this method
+    * returns a zero-length array. This method throws an
+    * IllegalArgumentException if a is null or has zero length.
+    * The array a is not changed by this method.
+    */
+   public static long[] range(long[] a, long low, long high) {
+      check(a);
+      int length = 0;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            length++;
+         }
+      }
+      long[] range = new long[length];
+      int r = 0;
+      for (int i = 0; r < length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            range[r++] = a[i];
+         }
+      }
+      return range;
+   }
+
+
+   /**
+    * Returns the smallest value in a that is greater than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static long ceiling(long[] a, long key) {
+      check(a);
+      boolean found = false;
+      long best = 0;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= key && (!found || a[i] < best)) {
+            best = a[i];
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return best;
+   }
+
+
+   /**
+    * Returns the largest value in a that is less than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static long floor(long[] a, long key) {
+      check(a);
+      boolean found = false;
+      long best = 0;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] <= key && (!found || a[i] > best)) {
+            best = a[i];
+            found = true;
+         }
+      }
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return best;
+   }
+
+
+   private static void check(long[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
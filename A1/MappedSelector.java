@@ -0,0 +1,302 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Defines the selection methods of Selector over int columns held in
+ * IntBuffers, such as a column file mapped into memory with map.
+ * A column is given as an array of buffers, as map returns, and the
+ * buffers are read in order from each one's position to its limit;
+ * a single buffer b is passed as new IntBuffer[] {b}. The values are
+ * streamed through a small fixed-size scratch array, so a column can
+ * be much larger than the heap. No method changes the buffers'
+ * contents, positions, or limits.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class MappedSelector {
+
+   /** Number of values copied out of a buffer at a time. */
+   private static final int CHUNK = 1 << 14;
+
+   /** Largest part of a file that is mapped as one buffer. */
+   private static final long WINDOW_BYTES = 1L << 30;
+
+   /** kmin and kmax split the values into buckets on the top bits. */
+   private static final int BUCKET_BITS = 12;
+
+   /** Number of bits below the bucket bits. */
+   private static final int LOW_BITS = 32 - BUCKET_BITS;
+
+   /** Number of buckets whose values are marked in one pass. */
+   private static final int BATCH = 64;
+
+   private MappedSelector() { }
+
+
+   /**
+    * Maps the file at the given path as a read-only column of
+    * little-endian ints and returns it as one buffer per 1GB window.
+    * The mapping stays valid after this method returns. This method
+    * throws IllegalArgumentException if file is null or if the file
+    * length is not a multiple of four bytes.
+    */
+   public static IntBuffer[] map(Path file) throws IOException {
+      if (file == null) {
+         throw new IllegalArgumentException();
+      }
+      try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+         long size = ch.size();
+         if (size % Integer.BYTES != 0) {
+            throw new IllegalArgumentException();
+         }
+         IntBuffer[] column = new IntBuffer[(int) ((size + WINDOW_BYTES - 1) / WINDOW_BYTES)];
+         for (int w = 0; w < column.length; w++) {
+            long start = w * WINDOW_BYTES;
+            long length = Math.min(WINDOW_BYTES, size - start);
+            column[w] = ch.map(FileChannel.MapMode.READ_ONLY, start, length)
+               .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+         }
+         return column;
+      }
+   }
+
+
+   /**
+    * Returns the number of values in the column. This method throws
+    * IllegalArgumentException if column is null or holds a null
+    * buffer.
+    */
+   public static long size(IntBuffer[] column) {
+      check(column);
+      long size = 0;
+      for (IntBuffer b : column) {
+         size += b.remaining();
+      }
+      return size;
+   }
+
+
+   /**
+    * Selects the minimum value from the column. This method throws
+    * IllegalArgumentException if column is null, holds a null buffer,
+    * or has no values.
+    */
+   public static int min(IntBuffer[] column) {
+      checkNotEmpty(column);
+      int[] chunk = new int[CHUNK];
+      int min = Integer.MAX_VALUE;
+      for (IntBuffer b : column) {
+         for (int i = b.position(); i < b.limit(); i += CHUNK) {
+            int len = Math.min(CHUNK, b.limit() - i);
+            b.get(i, chunk, 0, len);
+            min = Math.min(min, IntScan.min(chunk, 0, len));
+         }
+      }
+      return min;
+   }
+
+
+   /**
+    * Selects the maximum value from the column. This method throws
+    * IllegalArgumentException if column is null, holds a null buffer,
+    * or has no values.
+    */
+   public static int max(IntBuffer[] column) {
+      checkNotEmpty(column);
+      int[] chunk = new int[CHUNK];
+      int max = Integer.MIN_VALUE;
+      for (IntBuffer b : column) {
+         for (int i = b.position(); i < b.limit(); i += CHUNK) {
+            int len = Math.min(CHUNK, b.limit() - i);
+            b.get(i, chunk, 0, len);
+            max = Math.max(max, IntScan.max(chunk, 0, len));
+         }
+      }
+      return max;
+   }
+
+
+   /**
+    * Returns the number of values in the column in the range
+    * [low..high], including duplicates. This method throws
+    * IllegalArgumentException if column is null, holds a null buffer,
+    * or has no values.
+    */
+   public static long rangeCount(IntBuffer[] column, int low, int high) {
+      checkNotEmpty(column);
+      int[] chunk = new int[CHUNK];
+      long count = 0;
+      for (IntBuffer b : column) {
+         for (int i = b.position(); i < b.limit(); i += CHUNK) {
+            int len = Math.min(CHUNK, b.limit() - i);
+            b.get(i, chunk, 0, len);
+            count += IntScan.count(chunk, 0, len, low, high);
+         }
+      }
+      return count;
+   }
+
+
+   /**
+    * Returns an array containing all the values in the column in the
+    * range [low..high], including duplicates, in column order. If
+    * there are no qualifying values, this method returns a
+    * zero-length array. This method throws IllegalArgumentException
+    * if column is null, holds a null buffer, or has no values, or if
+    * there are too many qualifying values to fit in an array.
+    */
+   public static int[] range(IntBuffer[] column, int low, int high) {
+      long count = rangeCount(column, low, high);
+      if (count > Integer.MAX_VALUE - 8) {
+         throw new IllegalArgumentException();
+      }
+      int[] range = new int[(int) count];
+      if (count == 0) {
+         return range;
+      }
+      int[] chunk = new int[CHUNK];
+      int r = 0;
+      for (IntBuffer b : column) {
+         for (int i = b.position(); i < b.limit(); i += CHUNK) {
+            int len = Math.min(CHUNK, b.limit() - i);
+            b.get(i, chunk, 0, len);
+            int n = IntScan.count(chunk, 0, len, low, high);
+            r = IntScan.compress(chunk, 0, len, low, high, range, r, n);
+         }
+      }
+      return range;
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value from the column. This
+    * method throws IllegalArgumentException if column is null, holds
+    * a null buffer, has no values, or if there is no kth minimum
+    * value.
+    */
+   public static int kmin(IntBuffer[] column, int k) {
+      return select(column, k, true);
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value from the column. This
+    * method throws IllegalArgumentException if column is null, holds
+    * a null buffer, has no values, or if there is no kth maximum
+    * value.
+    */
+   public static int kmax(IntBuffer[] column, int k) {
+      return select(column, k, false);
+   }
+
+
+   /**
+    * Finds the kth distinct value by histogram narrowing. The first
+    * pass finds which buckets of the top BUCKET_BITS bits hold any
+    * values. Each later pass marks the exact values of the next BATCH
+    * non-empty buckets (in the direction of the search) in a bit set,
+    * which gives their distinct counts; the pass that reaches k reads
+    * the answer straight out of the bit set. The heap used is fixed,
+    * about 8MB, whatever the column size.
+    */
+   private static int select(IntBuffer[] column, int k, boolean fromMin) {
+      long size = size(column);
+      if ((size == 0) || (k < 1) || (k > size)) {
+         throw new IllegalArgumentException();
+      }
+      int[] chunk = new int[CHUNK];
+
+      // which buckets are occupied
+      boolean[] occupied = new boolean[1 << BUCKET_BITS];
+      for (IntBuffer b : column) {
+         for (int i = b.position(); i < b.limit(); i += CHUNK) {
+            int len = Math.min(CHUNK, b.limit() - i);
+            b.get(i, chunk, 0, len);
+            for (int j = 0; j < len; j++) {
+               occupied[bucket(chunk[j])] = true;
+            }
+         }
+      }
+      int[] order = new int[occupied.length];
+      int buckets = 0;
+      for (int i = 0; i < occupied.length; i++) {
+         int bucket = fromMin ? i : occupied.length - 1 - i;
+         if (occupied[bucket]) {
+            order[buckets++] = bucket;
+         }
+      }
+
+      // mark the values of one batch of buckets per pass
+      int words = 1 << (LOW_BITS - 6);
+      long[] bits = new long[BATCH * words];
+      int[] slot = new int[occupied.length];
+      long seen = 0;
+      for (int first = 0; first < buckets; first += BATCH) {
+         int last = Math.min(first + BATCH, buckets);
+         Arrays.fill(slot, -1);
+         for (int s = first; s < last; s++) {
+            slot[order[s]] = s - first;
+         }
+         Arrays.fill(bits, 0L);
+         for (IntBuffer b : column) {
+            for (int i = b.position(); i < b.limit(); i += CHUNK) {
+               int len = Math.min(CHUNK, b.limit() - i);
+               b.get(i, chunk, 0, len);
+               for (int j = 0; j < len; j++) {
+                  int s = slot[bucket(chunk[j])];
+                  if (s >= 0) {
+                     int low = chunk[j] & ((1 << LOW_BITS) - 1);
+                     bits[s * words + (low >>> 6)] |= 1L << low;
+                  }
+               }
+            }
+         }
+
+         for (int s = first; s < last; s++) {
+            int base = (s - first) * words;
+            long distinct = 0;
+            for (int w = 0; w < words; w++) {
+               distinct += Long.bitCount(bits[base + w]);
+            }
+            if (seen + distinct >= k) {
+               int low = (int) IntSelect.nthBit(bits, base, words, (int) (k - seen), fromMin);
+               return ((order[s] << LOW_BITS) | low) ^ Integer.MIN_VALUE;
+            }
+            seen += distinct;
+         }
+      }
+      throw new IllegalArgumentException();
+   }
+
+
+   /** Returns the bucket of v, in the same order as the values. */
+   private static int bucket(int v) {
+      return (v ^ Integer.MIN_VALUE) >>> LOW_BITS;
+   }
+
+
+   private static void check(IntBuffer[] column) {
+      if (column == null) {
+         throw new IllegalArgumentException();
+      }
+      for (IntBuffer b : column) {
+         if (b == null) {
+            throw new IllegalArgumentException();
+         }
+      }
+   }
+
+
+   private static void checkNotEmpty(IntBuffer[] column) {
+      if (size(column) == 0) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
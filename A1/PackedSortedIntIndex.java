@@ -0,0 +1,328 @@
+import java.util.Arrays;
+
+/**
+ * Provides the queries of SortedIntIndex over a large set of ints
+ * stored in compressed form. The distinct values are sorted and cut
+ * into blocks of 128. Each block keeps its first value in a table of
+ * block heads and the gaps between the rest bit-packed at the width
+ * of the block's largest gap, so a dense set of ids takes a few bits
+ * per value instead of 32.
+ *
+ * A query binary searches the block heads and then decodes at most
+ * one or two blocks, so ceiling, floor, contains, and rangeCount take
+ * O(log(n / 128) + 128) time. Duplicate values are dropped when the
+ * index is built; every count is of distinct values. Instances are
+ * immutable.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class PackedSortedIntIndex {
+
+   /** log2 of the number of values in a block. */
+   private static final int BLOCK_BITS = 7;
+
+   /** Number of values in a block. */
+   private static final int BLOCK = 1 << BLOCK_BITS;
+
+   /** Number of distinct values. */
+   private final int n;
+
+   /** The first value of each block. */
+   private final int[] heads;
+
+   /** The last value of the last block. */
+   private final int last;
+
+   /** Number of bits used for each gap in each block. */
+   private final byte[] widths;
+
+   /** Bit position of each block's gaps in data. */
+   private final long[] offsets;
+
+   /** The packed gaps, each stored as gap - 1, low bits first. */
+   private final long[] data;
+
+
+   /**
+    * Builds an index over the distinct values in a. This constructor
+    * throws IllegalArgumentException if a is null or has zero length.
+    * The array a is not changed by this constructor.
+    */
+   public PackedSortedIntIndex(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      int[] sorted = Arrays.copyOf(a, a.length);
+      Arrays.sort(sorted);
+      int d = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[d - 1]) {
+            sorted[d++] = sorted[i];
+         }
+      }
+      n = d;
+      last = sorted[n - 1];
+
+      int blocks = ((n - 1) >>> BLOCK_BITS) + 1;
+      heads = new int[blocks];
+      widths = new byte[blocks];
+      offsets = new long[blocks];
+      long bits = 0;
+      for (int b = 0; b < blocks; b++) {
+         int start = b << BLOCK_BITS;
+         int end = Math.min(start + BLOCK, n);
+         long widest = 0;
+         for (int i = start + 1; i < end; i++) {
+            widest |= gap(sorted, i);
+         }
+         heads[b] = sorted[start];
+         widths[b] = (byte) (64 - Long.numberOfLeadingZeros(widest));
+         offsets[b] = bits;
+         bits += (long) widths[b] * (end - start - 1);
+      }
+
+      // one spare word so that a read may always touch two words
+      data = new long[(int) ((bits + 63) >>> 6) + 1];
+      for (int b = 0; b < blocks; b++) {
+         int start = b << BLOCK_BITS;
+         int end = Math.min(start + BLOCK, n);
+         int width = widths[b];
+         long pos = offsets[b];
+         for (int i = start + 1; i < end; i++, pos += width) {
+            long g = gap(sorted, i);
+            int w = (int) (pos >>> 6);
+            int s = (int) (pos & 63);
+            data[w] |= g << s;
+            if (s + width > 64) {
+               data[w + 1] |= g >>> (64 - s);
+            }
+         }
+      }
+   }
+
+
+   /**
+    * Returns the number of distinct values in the index.
+    */
+   public int size() {
+      return n;
+   }
+
+
+   /**
+    * Returns the minimum value.
+    */
+   public int min() {
+      return heads[0];
+   }
+
+
+   /**
+    * Returns the maximum value.
+    */
+   public int max() {
+      return last;
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value. This method throws
+    * IllegalArgumentException if there is no kth minimum value.
+    */
+   public int kmin(int k) {
+      if ((k < 1) || (k > n)) {
+         throw new IllegalArgumentException();
+      }
+      return get(k - 1);
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value. This method throws
+    * IllegalArgumentException if there is no kth maximum value.
+    */
+   public int kmax(int k) {
+      if ((k < 1) || (k > n)) {
+         throw new IllegalArgumentException();
+      }
+      return get(n - k);
+   }
+
+
+   /**
+    * Returns an array containing all the values in the range
+    * [low..high] in ascending order. If there are no qualifying
+    * values, this method returns a zero-length array.
+    */
+   public int[] range(int low, int high) {
+      if (high < low) {
+         return new int[0];
+      }
+      int from = countBelow(low);
+      int to = countAtMost(high);
+      int[] range = new int[to - from];
+      int[] block = new int[BLOCK];
+      for (int i = from; i < to; ) {
+         int b = i >>> BLOCK_BITS;
+         decode(b, block);
+         int start = b << BLOCK_BITS;
+         int len = Math.min(to - i, start + BLOCK - i);
+         System.arraycopy(block, i - start, range, i - from, len);
+         i += len;
+      }
+      return range;
+   }
+
+
+   /**
+    * Returns the number of values in the range [low..high].
+    */
+   public int rangeCount(int low, int high) {
+      if (high < low) {
+         return 0;
+      }
+      return countAtMost(high) - countBelow(low);
+   }
+
+
+   /**
+    * Returns the smallest value that is greater than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int ceiling(int key) {
+      int i = countBelow(key);
+      if (i == n) {
+         throw new IllegalArgumentException();
+      }
+      return get(i);
+   }
+
+
+   /**
+    * Returns the largest value that is less than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int floor(int key) {
+      int i = countAtMost(key) - 1;
+      if (i < 0) {
+         throw new IllegalArgumentException();
+      }
+      return get(i);
+   }
+
+
+   /**
+    * Returns true if key is one of the indexed values.
+    */
+   public boolean contains(int key) {
+      int b = SortedIntIndex.upperBound(heads, key) - 1;
+      if (b < 0) {
+         return false;
+      }
+      int end = blockLength(b);
+      int width = widths[b];
+      long pos = offsets[b];
+      int v = heads[b];
+      for (int i = 1; (i < end) && (v < key); i++, pos += width) {
+         v += (int) read(pos, width) + 1;
+      }
+      return v == key;
+   }
+
+
+   /** Returns the number of values less than key. */
+   private int countBelow(int key) {
+      int b = SortedIntIndex.lowerBound(heads, key) - 1;
+      if (b < 0) {
+         return 0;
+      }
+      int end = blockLength(b);
+      int width = widths[b];
+      long pos = offsets[b];
+      int v = heads[b];
+      int i = 1;
+      for (; i < end; i++, pos += width) {
+         v += (int) read(pos, width) + 1;
+         if (v >= key) {
+            break;
+         }
+      }
+      return (b << BLOCK_BITS) + i;
+   }
+
+
+   /** Returns the number of values less than or equal to key. */
+   private int countAtMost(int key) {
+      int b = SortedIntIndex.upperBound(heads, key) - 1;
+      if (b < 0) {
+         return 0;
+      }
+      int end = blockLength(b);
+      int width = widths[b];
+      long pos = offsets[b];
+      int v = heads[b];
+      int i = 1;
+      for (; i < end; i++, pos += width) {
+         v += (int) read(pos, width) + 1;
+         if (v > key) {
+            break;
+         }
+      }
+      return (b << BLOCK_BITS) + i;
+   }
+
+
+   /** Returns the value at sorted position i. */
+   private int get(int i) {
+      int b = i >>> BLOCK_BITS;
+      int width = widths[b];
+      long pos = offsets[b];
+      int v = heads[b];
+      for (int j = i & (BLOCK - 1); j > 0; j--, pos += width) {
+         v += (int) read(pos, width) + 1;
+      }
+      return v;
+   }
+
+
+   /** Writes the values of block b to the front of dest. */
+   private void decode(int b, int[] dest) {
+      int end = blockLength(b);
+      int width = widths[b];
+      long pos = offsets[b];
+      int v = heads[b];
+      dest[0] = v;
+      for (int i = 1; i < end; i++, pos += width) {
+         v += (int) read(pos, width) + 1;
+         dest[i] = v;
+      }
+   }
+
+
+   /** Returns the width-bit field at bit position pos of data. */
+   private long read(long pos, int width) {
+      int w = (int) (pos >>> 6);
+      int s = (int) (pos & 63);
+      long v = data[w] >>> s;
+      if (s + width > 64) {
+         v |= data[w + 1] << (64 - s);
+      }
+      return v & ((1L << width) - 1);
+   }
+
+
+   /** Returns the number of values in block b. */
+   private int blockLength(int b) {
+      return Math.min(BLOCK, n - (b << BLOCK_BITS));
+   }
+
+
+   /** Returns the gap before sorted[i], less one, as an unsigned value. */
+   private static long gap(int[] sorted, int i) {
+      return ((long) sorted[i] - sorted[i - 1]) - 1;
+   }
+}
@@ -0,0 +1,167 @@
+import java.util.stream.IntStream;
+
+/**
+ * Defines parallel versions of the scan-based selection methods in
+ * Selector. The array is split into fixed-size blocks that are
+ * processed on the common ForkJoinPool, and the per-block results
+ * are combined. Arrays shorter than PARALLEL_THRESHOLD are handled
+ * on the calling thread. Every method has the same contract and
+ * result as the Selector method of the same name.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class ParallelSelector {
+
+   /** Arrays shorter than this are not worth splitting. */
+   static final int PARALLEL_THRESHOLD = 1 << 17;
+
+   /** Number of elements handled by one task. */
+   static final int BLOCK = 1 << 16;
+
+   private ParallelSelector() { }
+
+
+   /**
+    * Selects the minimum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static int min(int[] a) {
+      check(a);
+      if (a.length < PARALLEL_THRESHOLD) {
+         return IntScan.min(a, 0, a.length);
+      }
+      return blocks(a).parallel()
+         .map(b -> IntScan.min(a, start(b), end(a, b)))
+         .min().getAsInt();
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static int max(int[] a) {
+      check(a);
+      if (a.length < PARALLEL_THRESHOLD) {
+         return IntScan.max(a, 0, a.length);
+      }
+      return blocks(a).parallel()
+         .map(b -> IntScan.max(a, start(b), end(a, b)))
+         .max().getAsInt();
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicates, in the order they appear in
+    * a. The blocks are counted in parallel, a prefix sum of the
+    * counts gives each block its offset in the result, and the
+    * blocks are then copied into place in parallel. If there are no
+    * qualifying values, this method returns a zero-length array.
+    * This method throws IllegalArgumentException if a is null or has
+    * zero length. The array a is not changed by this method.
+    */
+   public static int[] range(int[] a, int low, int high) {
+      check(a);
+      if (a.length < PARALLEL_THRESHOLD) {
+         return Selector.range(a, low, high);
+      }
+
+      // count
+      int n = (a.length + BLOCK - 1) / BLOCK;
+      int[] offset = new int[n + 1];
+      blocks(a).parallel()
+         .forEach(b -> offset[b + 1] = IntScan.count(a, start(b), end(a, b), low, high));
+
+      // prefix sum
+      for (int b = 0; b < n; b++) {
+         offset[b + 1] += offset[b];
+      }
+
+      // scatter
+      int[] range = new int[offset[n]];
+      if (range.length == 0) {
+         return range;
+      }
+      blocks(a).parallel()
+         .filter(b -> offset[b + 1] > offset[b])
+         .forEach(b -> IntScan.compress(a, start(b), end(a, b), low, high,
+                                         range, offset[b], offset[b + 1] - offset[b]));
+      return range;
+   }
+
+
+   /**
+    * Returns the smallest value in a that is greater than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static int ceiling(int[] a, int key) {
+      check(a);
+      long best;
+      if (a.length < PARALLEL_THRESHOLD) {
+         best = IntScan.ceiling(a, 0, a.length, key);
+      }
+      else {
+         best = blocks(a).parallel()
+            .mapToLong(b -> IntScan.ceiling(a, start(b), end(a, b), key))
+            .min().getAsLong();
+      }
+      if (best == Long.MAX_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) best;
+   }
+
+
+   /**
+    * Returns the largest value in a that is less than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static int floor(int[] a, int key) {
+      check(a);
+      long best;
+      if (a.length < PARALLEL_THRESHOLD) {
+         best = IntScan.floor(a, 0, a.length, key);
+      }
+      else {
+         best = blocks(a).parallel()
+            .mapToLong(b -> IntScan.floor(a, start(b), end(a, b), key))
+            .max().getAsLong();
+      }
+      if (best == Long.MIN_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) best;
+   }
+
+
+   private static void check(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+   }
+
+
+   /** Returns the indexes of the blocks that cover a. */
+   private static IntStream blocks(int[] a) {
+      return IntStream.range(0, (a.length + BLOCK - 1) / BLOCK);
+   }
+
+
+   private static int start(int b) {
+      return b * BLOCK;
+   }
+
+
+   private static int end(int[] a, int b) {
+      return (int) Math.min((long) (b + 1) * BLOCK, a.length);
+   }
+}
@@ -0,0 +1,170 @@
+/**
+ * Indexes an array of ints once so that the minimum and maximum of
+ * any subarray a[from..to) can be found in O(1) time, without copying
+ * the subarray and calling Selector.min or Selector.max on it.
+ *
+ * The array is split into blocks of 64 values. Inside a block, each
+ * position keeps a 64-bit mask of the positions on the monotonic
+ * stack at that point, so the extreme of any part of a block is one
+ * bit operation away. A sparse table over the block extremes answers
+ * the whole blocks in between. Building takes O(n) time and about
+ * 20 bytes per value. Instances are immutable.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class RangeMinMaxIndex {
+
+   /** log2 of the block size. */
+   private static final int BLOCK_BITS = 6;
+
+   /** A copy of the indexed values. */
+   private final int[] a;
+
+   /** minStack[i] marks the positions of i's block on the min stack at i. */
+   private final long[] minStack;
+
+   /** maxStack[i] marks the positions of i's block on the max stack at i. */
+   private final long[] maxStack;
+
+   /** minTable[j][b] is the minimum of blocks b..b + 2^j - 1. */
+   private final int[][] minTable;
+
+   /** maxTable[j][b] is the maximum of blocks b..b + 2^j - 1. */
+   private final int[][] maxTable;
+
+
+   /**
+    * Builds the index over the values in a. This constructor throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this constructor.
+    */
+   public RangeMinMaxIndex(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      this.a = a.clone();
+      int n = a.length;
+      minStack = new long[n];
+      maxStack = new long[n];
+
+      int blocks = ((n - 1) >>> BLOCK_BITS) + 1;
+      int levels = 32 - Integer.numberOfLeadingZeros(blocks);
+      minTable = new int[levels][];
+      maxTable = new int[levels][];
+      minTable[0] = new int[blocks];
+      maxTable[0] = new int[blocks];
+
+      for (int b = 0; b < blocks; b++) {
+         int start = b << BLOCK_BITS;
+         int end = Math.min(start + (1 << BLOCK_BITS), n);
+         long lows = 0;
+         long highs = 0;
+         for (int i = start; i < end; i++) {
+            int v = a[i];
+            while (lows != 0 && a[start + 63 - Long.numberOfLeadingZeros(lows)] >= v) {
+               lows &= ~Long.highestOneBit(lows);
+            }
+            while (highs != 0 && a[start + 63 - Long.numberOfLeadingZeros(highs)] <= v) {
+               highs &= ~Long.highestOneBit(highs);
+            }
+            lows |= 1L << i;
+            highs |= 1L << i;
+            minStack[i] = lows;
+            maxStack[i] = highs;
+         }
+         // the bottom of each stack is the block's extreme
+         minTable[0][b] = a[start + Long.numberOfTrailingZeros(lows)];
+         maxTable[0][b] = a[start + Long.numberOfTrailingZeros(highs)];
+      }
+
+      for (int j = 1; j < levels; j++) {
+         int len = blocks - (1 << j) + 1;
+         int half = 1 << (j - 1);
+         minTable[j] = new int[len];
+         maxTable[j] = new int[len];
+         for (int b = 0; b < len; b++) {
+            minTable[j][b] = Math.min(minTable[j - 1][b], minTable[j - 1][b + half]);
+            maxTable[j][b] = Math.max(maxTable[j - 1][b], maxTable[j - 1][b + half]);
+         }
+      }
+   }
+
+
+   /**
+    * Returns the number of values indexed.
+    */
+   public int size() {
+      return a.length;
+   }
+
+
+   /**
+    * Selects the minimum value from a[from..to). This method throws
+    * IllegalArgumentException if [from..to) is not a non-empty range
+    * of the array.
+    */
+   public int min(int from, int to) {
+      checkRange(from, to);
+      int last = to - 1;
+      int first = from >>> BLOCK_BITS;
+      int end = last >>> BLOCK_BITS;
+      if (first == end) {
+         return a[lowest(minStack[last], from, last)];
+      }
+      int min = Math.min(a[lowest(minStack[blockEnd(first)], from, blockEnd(first))],
+                         a[lowest(minStack[last], end << BLOCK_BITS, last)]);
+      if (end - first > 1) {
+         int j = 31 - Integer.numberOfLeadingZeros(end - first - 1);
+         min = Math.min(min, Math.min(minTable[j][first + 1], minTable[j][end - (1 << j)]));
+      }
+      return min;
+   }
+
+
+   /**
+    * Selects the maximum value from a[from..to). This method throws
+    * IllegalArgumentException if [from..to) is not a non-empty range
+    * of the array.
+    */
+   public int max(int from, int to) {
+      checkRange(from, to);
+      int last = to - 1;
+      int first = from >>> BLOCK_BITS;
+      int end = last >>> BLOCK_BITS;
+      if (first == end) {
+         return a[lowest(maxStack[last], from, last)];
+      }
+      int max = Math.max(a[lowest(maxStack[blockEnd(first)], from, blockEnd(first))],
+                         a[lowest(maxStack[last], end << BLOCK_BITS, last)]);
+      if (end - first > 1) {
+         int j = 31 - Integer.numberOfLeadingZeros(end - first - 1);
+         max = Math.max(max, Math.max(maxTable[j][first + 1], maxTable[j][end - (1 << j)]));
+      }
+      return max;
+   }
+
+
+   /**
+    * Returns the lowest stack position at or after from, which is the
+    * position of the extreme of [from..last] in last's block.
+    */
+   private static int lowest(long stack, int from, int last) {
+      return (last & -(1 << BLOCK_BITS))
+         + Long.numberOfTrailingZeros(stack & (-1L << from));
+   }
+
+
+   /** Returns the last index of block b. */
+   private int blockEnd(int b) {
+      return Math.min(((b + 1) << BLOCK_BITS), a.length) - 1;
+   }
+
+
+   private void checkRange(int from, int to) {
+      if ((from < 0) || (to > a.length) || (from >= to)) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
@@ -0,0 +1,39 @@
+/**
+ * Names the algorithms Selector.kmin and kmax can use to find the kth
+ * distinct value. AUTO lets Selector pick one from the data, and
+ * Selector.backendFor reports which one it would pick. The others
+ * force a particular algorithm, which is mainly useful for
+ * benchmarking.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public enum SelectionBackend {
+
+   /** Pick one of the backends below from the data. */
+   AUTO,
+
+   /**
+    * Scan once, keeping the k best distinct values in a bounded heap.
+    * O(n log k) time and O(k) space with no copy of the array, so the
+    * best choice when k is small next to n.
+    */
+   HEAP,
+
+   /**
+    * Mark the values in a bit set over [min..max] and count set bits.
+    * O(n + (max - min)) time and (max - min) / 8 bytes, so only a good
+    * choice when the values span a narrow range.
+    */
+   COUNTING,
+
+   /** Copy, sort with an LSD radix sort, and walk the distinct values. */
+   RADIX,
+
+   /** Copy, sort with Arrays.sort, and walk the distinct values. */
+   COMPARISON,
+
+   /** Deduplicate with a hash table and run introselect. */
+   QUICKSELECT
+}
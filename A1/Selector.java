@@ -1,4 +1,5 @@
 import java.util.Arrays;
+import java.util.function.IntConsumer;
 
 /**
 * Defines a library of selection methods
@@ -11,6 +12,15 @@ import java.util.Arrays;
 */
 public final class Selector {
 
+   /** Arrays at least this long are radix sorted rather than compared. */
+   private static final int RADIX_THRESHOLD = 1 << 12;
+
+   /** Ranks up to a.length / SMALL_K_RATIO are found with a bounded heap. */
+   private static final int SMALL_K_RATIO = 64;
+
+   /** ceilingAll and floorAll scan directly for this many keys or fewer. */
+   private static final int DIRECT_KEYS = 4;
+
     /**
      * Can't instantiate this class.
      *
@@ -29,14 +39,7 @@ public final class Selector {
       if ((a == null) || (a.length == 0)){
          throw new IllegalArgumentException();
       }
-      int min = a[0];
-      
-      for (int i = 0; i < a.length; i++){
-         if (a[i] <= min){
-            min = a[i];
-         }
-      }
-      return min;
+      return IntScan.min(a, 0, a.length);
    }
 
 
@@ -49,15 +52,54 @@ public final class Selector {
       if ((a == null) || (a.length == 0)) {
          throw new IllegalArgumentException();
       }
-      
+      return IntScan.max(a, 0, a.length);
+   }
+
+
+    /**
+     * Selects both the minimum and the maximum value from the array a
+     * in a single pass, packed into a long as
+     * (min << 32) | (max & 0xFFFFFFFFL). Unpack them with
+     * (int) (result >> 32) and (int) result. This method throws
+     * IllegalArgumentException if a is null or has zero length. The
+     * array a is not changed by this method.
+     */
+   public static long minMax(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      return IntScan.minMax(a, 0, a.length);
+   }
+
+
+    /**
+     * Returns the min and max of the array a together with the number
+     * of values in the range [low..high] and the smallest and largest
+     * of those values, all computed in a single pass. This method
+     * throws IllegalArgumentException if a is null or has zero length.
+     * The array a is not changed by this method.
+     */
+   public static IntSummary summary(int[] a, int low, int high) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      int min = a[0];
       int max = a[0];
-      
-      for(int i = 0; i < a.length; i++){
-         if(a[i] >= max){
-            max = a[i];
-         }
+      int count = 0;
+      int rangeMin = Integer.MAX_VALUE;
+      int rangeMax = Integer.MIN_VALUE;
+      int span = high - low;
+      boolean empty = high < low;
+      for (int i = 0; i < a.length; i++) {
+         int v = a[i];
+         min = Math.min(min, v);
+         max = Math.max(max, v);
+         boolean in = !empty && (Integer.compareUnsigned(v - low, span) <= 0);
+         count += in ? 1 : 0;
+         rangeMin = Math.min(rangeMin, in ? v : Integer.MAX_VALUE);
+         rangeMax = Math.max(rangeMax, in ? v : Integer.MIN_VALUE);
       }
-      return max;
+      return new IntSummary(min, max, count, rangeMin, rangeMax);
    }
 
 
@@ -70,29 +112,21 @@ public final class Selector {
      * changed by this method.
      */
    public static int kmin(int[] a, int k) {
-      if ((a == null) || (a.length == 0) || (k < 1) || (k > a.length)) {
-         throw new IllegalArgumentException();
-      }
-   
-   //sort + copy
-      int[] b = Arrays.copyOf(a, a.length);
-      Arrays.sort(b);
-   
-   // kmin
-   
-      int i = 0;
-      int num = 1;
-   
-      while(num < k && i < b.length - 1){
-         if (b[i] != b[++i]){
-            num++;
-         }
-      }
-      if (num != k){
+      return kmin(a, k, SelectionBackend.AUTO);
+   }
+
+
+    /**
+     * Selects the kth minimum value from the array a using the given
+     * backend. This method has the same contract as kmin(a, k), and
+     * also throws IllegalArgumentException if backend is null.
+     */
+   public static int kmin(int[] a, int k, SelectionBackend backend) {
+      if ((a == null) || (a.length == 0) || (k < 1) || (k > a.length)
+            || (backend == null)) {
          throw new IllegalArgumentException();
       }
-   
-      return b[i];
+      return select(a, k, true, backend);
    }
 
 
@@ -105,29 +139,201 @@ public final class Selector {
      * changed by this method.
      */
    public static int kmax(int[] a, int k) {
-      if ((a == null) || (a.length == 0) || (k < 1) || (k > a.length)) {
+      return kmax(a, k, SelectionBackend.AUTO);
+   }
+
+
+    /**
+     * Selects the kth maximum value from the array a using the given
+     * backend. This method has the same contract as kmax(a, k), and
+     * also throws IllegalArgumentException if backend is null.
+     */
+   public static int kmax(int[] a, int k, SelectionBackend backend) {
+      if ((a == null) || (a.length == 0) || (k < 1) || (k > a.length)
+            || (backend == null)) {
          throw new IllegalArgumentException();
       }
+      return select(a, k, false, backend);
+   }
+
+
+    /**
+     * Returns the backend kmin and kmax use for the array a and rank k
+     * when asked for AUTO: HEAP when k is at most a.length / 64,
+     * otherwise COUNTING when the values span fewer than 32 * a.length
+     * integers (so the bit set is no bigger than a copy of a), RADIX
+     * for larger arrays, and COMPARISON for small ones. This method
+     * throws IllegalArgumentException if a is null or has zero length.
+     */
+   public static SelectionBackend backendFor(int[] a, int k) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      if (k <= a.length / SMALL_K_RATIO) {
+         return SelectionBackend.HEAP;
+      }
+      long minMax = IntScan.minMax(a, 0, a.length);
+      return choose(a, (int) (minMax >> 32), (int) minMax);
+   }
+
+
+   private static SelectionBackend choose(int[] a, int min, int max) {
+      if ((long) max - min < 32L * a.length) {
+         return SelectionBackend.COUNTING;
+      }
+      if (a.length >= RADIX_THRESHOLD) {
+         return SelectionBackend.RADIX;
+      }
+      return SelectionBackend.COMPARISON;
+   }
+
+
+   private static int select(int[] a, int k, boolean fromMin, SelectionBackend backend) {
+      if ((backend == SelectionBackend.AUTO) && (k <= a.length / SMALL_K_RATIO)) {
+         backend = SelectionBackend.HEAP;
+      }
+      int min = 0;
+      int max = 0;
+      if ((backend == SelectionBackend.AUTO) || (backend == SelectionBackend.COUNTING)) {
+         long minMax = IntScan.minMax(a, 0, a.length);
+         min = (int) (minMax >> 32);
+         max = (int) minMax;
+      }
+      if (backend == SelectionBackend.AUTO) {
+         backend = choose(a, min, max);
+      }
    
-   //sort + copy array
-      int[] b = Arrays.copyOf(a, a.length);
-      Arrays.sort(b);
-   
-   // kmin
+      switch (backend) {
+         case HEAP: {
+            long v = IntSelect.kthSmallest(a, k, fromMin);
+            if (v == Long.MAX_VALUE) {
+               throw new IllegalArgumentException();
+            }
+            return (int) v;
+         }
+         case COUNTING: {
+            long[] bits = IntSelect.presence(a, min, max);
+            long bit = IntSelect.nthBit(bits, 0, bits.length, k, fromMin);
+            if (bit < 0) {
+               throw new IllegalArgumentException();
+            }
+            return (int) (min + bit);
+         }
+         case RADIX:
+         case COMPARISON: {
+            int[] b = Arrays.copyOf(a, a.length);
+            if (backend == SelectionBackend.RADIX) {
+               IntSelect.radixSort(b);
+            }
+            else {
+               Arrays.sort(b);
+            }
+            int i = IntSelect.kthDistinct(b, k, fromMin);
+            if (i < 0) {
+               throw new IllegalArgumentException();
+            }
+            return b[i];
+         }
+         case QUICKSELECT: {
+            int[] b = IntSelect.newTable(a.length);
+            int distinct = IntSelect.dedupe(a, 0, a.length, b);
+            if (k > distinct){
+               throw new IllegalArgumentException();
+            }
+            return IntSelect.select(b, 0, distinct, fromMin ? k - 1 : distinct - k);
+         }
+         default:
+            // AUTO has been resolved above; a new backend needs a case here
+            throw new IllegalStateException("no case for " + backend);
+      }
+   }
+
+
+    /**
+     * Selects the kth minimum value from the array a for every k in
+     * ks, returning the answers in the same order as ks. This is the
+     * same as calling kmin once per rank, but the array is copied once
+     * and all the ranks are resolved in a single multi-partition. This
+     * method throws IllegalArgumentException if a or ks is null, if a
+     * has zero length, or if there is no kth minimum value for some k
+     * in ks. The arrays a and ks are not changed by this method.
+     */
+   public static int[] kminAll(int[] a, int[] ks) {
+      return selectAll(a, ks, true);
+   }
+
+
+    /**
+     * Selects the kth maximum value from the array a for every k in
+     * ks, returning the answers in the same order as ks. This method
+     * throws IllegalArgumentException if a or ks is null, if a has
+     * zero length, or if there is no kth maximum value for some k in
+     * ks. The arrays a and ks are not changed by this method.
+     */
+   public static int[] kmaxAll(int[] a, int[] ks) {
+      return selectAll(a, ks, false);
+   }
+
+
+   private static int[] selectAll(int[] a, int[] ks, boolean fromMin) {
+      if ((a == null) || (a.length == 0) || (ks == null)) {
+         throw new IllegalArgumentException();
+      }
    
-      int i = b.length - 1;
-      int num = 1;
+      int[] b = IntSelect.newTable(a.length);
+      int distinct = IntSelect.dedupe(a, 0, a.length, b);
    
-      while(num < k && i > 0){
-         if (b[i] != b[--i]){
-            num++;
+   // sorted positions of the requested ranks
+      int[] pos = new int[ks.length];
+      for (int i = 0; i < ks.length; i++) {
+         if ((ks[i] < 1) || (ks[i] > distinct)) {
+            throw new IllegalArgumentException();
          }
+         pos[i] = fromMin ? ks[i] - 1 : distinct - ks[i];
+      }
+      int[] sorted = pos.clone();
+      Arrays.sort(sorted);
+      IntSelect.selectAll(b, 0, distinct, sorted, 0, sorted.length);
+   
+      for (int i = 0; i < pos.length; i++) {
+         pos[i] = b[pos[i]];
       }
-      if (num != k){
+      return pos;
+   }
+
+
+    /**
+     * Returns the k values that occur most often in the array a, most
+     * frequent first; values that occur equally often are in
+     * ascending order. If a has fewer than k distinct values, all of
+     * them are returned. The occurrences are counted in a primitive
+     * hash table and the top k are selected from it, in expected
+     * O(n + d log k) time for d distinct values. This method throws
+     * IllegalArgumentException if a is null, has zero length, or if
+     * k < 1. The array a is not changed by this method.
+     */
+   public static int[] mostFrequent(int[] a, int k) {
+      if ((a == null) || (a.length == 0) || (k < 1)) {
          throw new IllegalArgumentException();
       }
+      int[] keys = IntSelect.newTable(a.length);
+      int[] counts = new int[keys.length];
+      int distinct = IntSelect.frequencies(a, keys, counts);
+      k = Math.min(k, distinct);
+   
+   // count in the high half; the low half orders ties by ascending value
+      long[] packed = new long[distinct];
+      for (int i = 0; i < distinct; i++) {
+         packed[i] = ((long) counts[i] << 32) | (~(keys[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+      }
+      LongSelect.select(packed, 0, distinct, distinct - k);
+      Arrays.sort(packed, distinct - k, distinct);
    
-      return b[i];
+      int[] top = new int[k];
+      for (int i = 0; i < k; i++) {
+         top[i] = ~(int) packed[distinct - 1 - i] ^ Integer.MIN_VALUE;
+      }
+      return top;
    }
 
 
@@ -149,26 +355,77 @@ public final class Selector {
       }
    
    //length
-      int length = 0;
-      for (int i = 0; i < a.length; i++){
-         if (a[i] >= low && a[i] <= high) {
-            length++;
-         }
-      }
+      int length = IntScan.count(a, 0, a.length, low, high);
    
    // returning the length
       int[] range = new int[length]; 
       if (length == 0) {
          return range;
       }
-      int r = 0;
+      IntScan.compress(a, 0, a.length, low, high, range, 0, length);
+      return range;
+   }
+
+
+    /**
+     * Returns the number of values in a in the range [low..high],
+     * including duplicate values. This is the length of the array
+     * range would return, found in one pass and without allocating.
+     * This method throws an IllegalArgumentException if a is null or
+     * has zero length. The array a is not changed by this method.
+     */
+   public static int rangeCount(int[] a, int low, int high) {
+      if ((a == null) || (a.length == 0)){
+         throw new IllegalArgumentException();
+      }
+      return IntScan.count(a, 0, a.length, low, high);
+   }
+
+
+    /**
+     * Copies the values in a in the range [low..high], including
+     * duplicate values and in the order they appear in a, into dest
+     * starting at dest[offset], and returns the number of qualifying
+     * values. If dest does not have room for all of them, only the
+     * ones that fit are copied, so a return value larger than
+     * dest.length - offset means the result was cut short. No other
+     * element of dest is changed. This method makes one pass over a
+     * and does not allocate. It throws an IllegalArgumentException if
+     * a or dest is null, if a has zero length, or if offset is not in
+     * [0..dest.length]. The array a is not changed by this method.
+     */
+   public static int rangeInto(int[] a, int low, int high, int[] dest, int offset) {
+      if ((a == null) || (a.length == 0) || (dest == null)
+            || (offset < 0) || (offset > dest.length)){
+         throw new IllegalArgumentException();
+      }
+      int r = offset;
+      int i = 0;
+      for (; (i < a.length) && (r < dest.length); i++) {
+         if (a[i] >= low && a[i] <= high) {
+            dest[r++] = a[i];
+         }
+      }
+      return (r - offset) + IntScan.count(a, i, a.length, low, high);
+   }
+
+
+    /**
+     * Passes each value in a in the range [low..high] to action,
+     * including duplicate values and in the order they appear in a.
+     * This method makes one pass over a and does not allocate. It
+     * throws an IllegalArgumentException if a or action is null or if
+     * a has zero length. The array a is not changed by this method.
+     */
+   public static void range(int[] a, int low, int high, IntConsumer action) {
+      if ((a == null) || (a.length == 0) || (action == null)){
+         throw new IllegalArgumentException();
+      }
       for (int i = 0; i < a.length; i++) {
          if (a[i] >= low && a[i] <= high) {
-            range[r] = a[i];
-            r++;
+            action.accept(a[i]);
          }
       }
-      return range;
    }
           
 
@@ -184,30 +441,11 @@ public final class Selector {
       if((a == null) || (a.length == 0)){
          throw new IllegalArgumentException();
       }
-      else {
-         int min = -99;
-                  
-         for (int i = 0; i < a.length; i++) {
-            if (a[i] == key) {
-               return a[i];
-            }
-            else if (a[i] > key) {
-               min = a[i];
-            } 
-         }
-         
-         if (min == -99) {
-            throw new IllegalArgumentException();
-         }
-         
-         for (int i = 0; i < a.length; i++) {
-            if (a[i] <= min && a[i] >= key) {
-               min = a[i];
-            }
-         }
-         
-         return min;
+      long min = IntScan.ceiling(a, 0, a.length, key);
+      if (min == Long.MAX_VALUE) {
+         throw new IllegalArgumentException();
       }
+      return (int) min;
    }
 
 
@@ -222,31 +460,96 @@ public final class Selector {
       if ((a == null) || (a.length == 0)) {
          throw new IllegalArgumentException();
       }
+      long max = IntScan.floor(a, 0, a.length, key);
+      if (max == Long.MIN_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) max;
+   }
+
+
+    /**
+     * Returns an array holding ceiling(a, keys[i]) at index i for
+     * every key in keys. Rather than scanning a once per key, this
+     * method sorts a copy of a and the keys once and answers all the
+     * keys in a single merge pass. This method throws an
+     * IllegalArgumentException if a or keys is null, if a has zero
+     * length, or if some key has no qualifying value. The arrays a
+     * and keys are not changed by this method.
+     */
+   public static int[] ceilingAll(int[] a, int[] keys) {
+      return boundAll(a, keys, true);
+   }
+
+
+    /**
+     * Returns an array holding floor(a, keys[i]) at index i for every
+     * key in keys, answered in a single merge pass over sorted copies
+     * of a and keys. This method throws an IllegalArgumentException if
+     * a or keys is null, if a has zero length, or if some key has no
+     * qualifying value. The arrays a and keys are not changed by this
+     * method.
+     */
+   public static int[] floorAll(int[] a, int[] keys) {
+      return boundAll(a, keys, false);
+   }
+
+
+   private static int[] boundAll(int[] a, int[] keys, boolean ceiling) {
+      if ((a == null) || (a.length == 0) || (keys == null)) {
+         throw new IllegalArgumentException();
+      }
+      int[] result = new int[keys.length];
+   
+   // a few keys are cheaper to scan for directly
+      if (keys.length <= DIRECT_KEYS) {
+         for (int i = 0; i < keys.length; i++) {
+            result[i] = ceiling ? ceiling(a, keys[i]) : floor(a, keys[i]);
+         }
+         return result;
+      }
+   
+   // sorted copy of a, and the keys in order with their positions
+      int[] b = Arrays.copyOf(a, a.length);
+      if (b.length >= RADIX_THRESHOLD) {
+         IntSelect.radixSort(b);
+      }
       else {
-         int max = -99;
-         
-         for (int i = 0; i < a.length; i++) {
-            if (a[i] == key) {
-               return a[i];
+         Arrays.sort(b);
+      }
+      long[] order = new long[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+         order[i] = ((long) keys[i] << 32) | i;
+      }
+      Arrays.sort(order);
+   
+   // merge
+      if (ceiling) {
+         int j = 0;
+         for (int i = 0; i < order.length; i++) {
+            int key = (int) (order[i] >> 32);
+            while (j < b.length && b[j] < key) {
+               j++;
             }
-            else if (a[i] < key) {
-               max = a[i];
+            if (j == b.length) {
+               throw new IllegalArgumentException();
             }
+            result[(int) order[i]] = b[j];
          }
-         
-         if (max == -99) {
-            throw new IllegalArgumentException();
-         }
-         
-         for (int i = 0; i < a.length; i++) {
-            if (a[i] > max && a[i] <= key) {
-               max = a[i];
+      }
+      else {
+         int j = b.length - 1;
+         for (int i = order.length - 1; i >= 0; i--) {
+            int key = (int) (order[i] >> 32);
+            while (j >= 0 && b[j] > key) {
+               j--;
+            }
+            if (j < 0) {
+               throw new IllegalArgumentException();
             }
+            result[(int) order[i]] = b[j];
          }
-         
-         return max;
       }
+      return result;
    }
 }
-
-
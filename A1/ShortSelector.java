@@ -0,0 +1,187 @@
+/**
+ * Defines a library of selection methods on arrays of shorts. The
+ * methods have the same contracts as those in Selector and work
+ * directly on the primitive array, without boxing. Because a short
+ * has only 65536 possible values, kmin and kmax mark the values
+ * present in an 8KB bit set and read the answer from it, in
+ * O(n) time with no copy of the array.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class ShortSelector {
+
+   private ShortSelector() { }
+
+
+   /**
+    * Selects the minimum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static short min(short[] a) {
+      check(a);
+      int min = a[0];
+      for (int i = 1; i < a.length; i++) {
+         min = Math.min(min, a[i]);
+      }
+      return (short) min;
+   }
+
+
+   /**
+    * Selects the maximum value from the array a. This method
+    * throws IllegalArgumentException if a is null or has zero
+    * length. The array a is not changed by this method.
+    */
+   public static short max(short[] a) {
+      check(a);
+      int max = a[0];
+      for (int i = 1; i < a.length; i++) {
+         max = Math.max(max, a[i]);
+      }
+      return (short) max;
+   }
+
+
+   /**
+    * Selects the kth minimum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth minimum value. The array a is not
+    * changed by this method.
+    */
+   public static short kmin(short[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] present = present(a);
+      for (int w = 0; w < present.length; w++) {
+         int c = Long.bitCount(present[w]);
+         if (k <= c) {
+            long word = present[w];
+            for (int j = 1; j < k; j++) {
+               word &= word - 1;
+            }
+            return (short) (((w << 6) | Long.numberOfTrailingZeros(word)) + Short.MIN_VALUE);
+         }
+         k -= c;
+      }
+      throw new IllegalArgumentException();
+   }
+
+
+   /**
+    * Selects the kth maximum distinct value from the array a. This
+    * method throws IllegalArgumentException if a is null, has zero
+    * length, or if there is no kth maximum value. The array a is not
+    * changed by this method.
+    */
+   public static short kmax(short[] a, int k) {
+      check(a);
+      if ((k < 1) || (k > a.length)) {
+         throw new IllegalArgumentException();
+      }
+      long[] present = present(a);
+      for (int w = present.length - 1; w >= 0; w--) {
+         int c = Long.bitCount(present[w]);
+         if (k <= c) {
+            long word = present[w];
+            for (int j = 1; j < k; j++) {
+               word &= ~Long.highestOneBit(word);
+            }
+            return (short) (((w << 6) | (63 - Long.numberOfLeadingZeros(word))) + Short.MIN_VALUE);
+         }
+         k -= c;
+      }
+      throw new IllegalArgumentException();
+   }
+
+
+   /**
+    * Returns an array containing all the values in a in the range
+    * [low..high], including duplicate values, in the order they
+    * appear in a. If there are no qualifying values, this method
+    * returns a zero-length array. This method throws an
+    * IllegalArgumentException if a is null or has zero length.
+    * The array a is not changed by this method.
+    */
+   public static short[] range(short[] a, short low, short high) {
+      check(a);
+      int length = 0;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            length++;
+         }
+      }
+      short[] range = new short[length];
+      int r = 0;
+      for (int i = 0; r < length; i++) {
+         if (a[i] >= low && a[i] <= high) {
+            range[r++] = a[i];
+         }
+      }
+      return range;
+   }
+
+
+   /**
+    * Returns the smallest value in a that is greater than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static short ceiling(short[] a, short key) {
+      check(a);
+      int best = Integer.MAX_VALUE;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] >= key) {
+            best = Math.min(best, a[i]);
+         }
+      }
+      if (best == Integer.MAX_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (short) best;
+   }
+
+
+   /**
+    * Returns the largest value in a that is less than or equal to
+    * the given key. This method throws an IllegalArgumentException if
+    * a is null or has zero length, or if there is no qualifying
+    * value. The array a is not changed by this method.
+    */
+   public static short floor(short[] a, short key) {
+      check(a);
+      int best = Integer.MIN_VALUE;
+      for (int i = 0; i < a.length; i++) {
+         if (a[i] <= key) {
+            best = Math.max(best, a[i]);
+         }
+      }
+      if (best == Integer.MIN_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (short) best;
+   }
+
+
+   /** Returns a bit set of the values in a, offset by Short.MIN_VALUE. */
+   private static long[] present(short[] a) {
+      long[] present = new long[1 << 10];
+      for (int i = 0; i < a.length; i++) {
+         int v = a[i] - Short.MIN_VALUE;
+         present[v >>> 6] |= 1L << v;
+      }
+      return present;
+   }
+
+
+   private static void check(short[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
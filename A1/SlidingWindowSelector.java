@@ -0,0 +1,186 @@
+import java.util.function.IntConsumer;
+
+/**
+ * Answers the Selector questions about the last W values of a stream
+ * of ints. min and max come from monotonic deques and cost O(1)
+ * amortized per value. kmin, kmax, ceiling, and floor work on the
+ * distinct values in the window and come from an order-statistic
+ * treap that is updated in O(log W) as values enter and leave.
+ *
+ * A SlidingWindowSelector is not safe for use by more than one thread
+ * at a time.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class SlidingWindowSelector implements IntConsumer {
+
+   /** The window, as a ring indexed by sequence number mod W. */
+   private final int[] values;
+
+   /**
+    * Sequence numbers of the values that can still become the window
+    * min (or max), as rings. Their values are strictly increasing
+    * (decreasing) from head to tail.
+    */
+   private final long[] minQueue;
+   private final long[] maxQueue;
+   private int minHead;
+   private int minSize;
+   private int maxHead;
+   private int maxSize;
+
+   /** The distinct values in the window, with multiplicities. */
+   private final IntTreap tree;
+
+   /** Number of values accepted so far. */
+   private long seen;
+
+
+   /**
+    * Creates an empty selector over a window of the given number of
+    * values. This constructor throws IllegalArgumentException if
+    * window < 1.
+    */
+   public SlidingWindowSelector(int window) {
+      if (window < 1) {
+         throw new IllegalArgumentException();
+      }
+      values = new int[window];
+      minQueue = new long[window];
+      maxQueue = new long[window];
+      tree = new IntTreap(window);
+   }
+
+
+   /**
+    * Adds a value to the window, evicting the oldest value once the
+    * window is full.
+    */
+   @Override
+   public void accept(int value) {
+      int w = values.length;
+      long s = seen++;
+      int slot = (int) (s % w);
+
+      // evict
+      if (s >= w) {
+         tree.remove(values[slot]);
+         if (minQueue[minHead] == s - w) {
+            minHead = (minHead + 1) % w;
+            minSize--;
+         }
+         if (maxQueue[maxHead] == s - w) {
+            maxHead = (maxHead + 1) % w;
+            maxSize--;
+         }
+      }
+      values[slot] = value;
+      tree.add(value);
+
+      while ((minSize > 0) && (values[back(minQueue, minHead, minSize)] >= value)) {
+         minSize--;
+      }
+      minQueue[(minHead + minSize++) % w] = s;
+
+      while ((maxSize > 0) && (values[back(maxQueue, maxHead, maxSize)] <= value)) {
+         maxSize--;
+      }
+      maxQueue[(maxHead + maxSize++) % w] = s;
+   }
+
+
+   /**
+    * Returns the number of values in the window, which is less than
+    * the window length until that many values have been accepted.
+    */
+   public int size() {
+      return (int) Math.min(seen, values.length);
+   }
+
+
+   /**
+    * Returns the minimum value in the window. This method throws
+    * IllegalArgumentException if the window is empty.
+    */
+   public int min() {
+      if (seen == 0) {
+         throw new IllegalArgumentException();
+      }
+      return values[(int) (minQueue[minHead] % values.length)];
+   }
+
+
+   /**
+    * Returns the maximum value in the window. This method throws
+    * IllegalArgumentException if the window is empty.
+    */
+   public int max() {
+      if (seen == 0) {
+         throw new IllegalArgumentException();
+      }
+      return values[(int) (maxQueue[maxHead] % values.length)];
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value in the window. This
+    * method throws IllegalArgumentException if there is no kth
+    * minimum value.
+    */
+   public int kmin(int k) {
+      if ((k < 1) || (k > tree.distinctSize())) {
+         throw new IllegalArgumentException();
+      }
+      return tree.kth(k);
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value in the window. This
+    * method throws IllegalArgumentException if there is no kth
+    * maximum value.
+    */
+   public int kmax(int k) {
+      int d = tree.distinctSize();
+      if ((k < 1) || (k > d)) {
+         throw new IllegalArgumentException();
+      }
+      return tree.kth(d - k + 1);
+   }
+
+
+   /**
+    * Returns the smallest value in the window that is greater than or
+    * equal to the given key. This method throws
+    * IllegalArgumentException if there is no qualifying value.
+    */
+   public int ceiling(int key) {
+      long c = tree.ceiling(key);
+      if (c == Long.MAX_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) c;
+   }
+
+
+   /**
+    * Returns the largest value in the window that is less than or
+    * equal to the given key. This method throws
+    * IllegalArgumentException if there is no qualifying value.
+    */
+   public int floor(int key) {
+      long f = tree.floor(key);
+      if (f == Long.MIN_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) f;
+   }
+
+
+   /** Returns the ring slot of the value at the tail of a queue. */
+   private int back(long[] queue, int head, int size) {
+      return (int) (queue[(head + size - 1) % values.length] % values.length);
+   }
+}
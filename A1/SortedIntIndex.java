@@ -0,0 +1,204 @@
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Provides the selection operations of Selector over an array of
+ * ints that is indexed once and then queried many times. The index
+ * keeps a sorted copy of the values and a table of the distinct
+ * values, so every query is a binary search or a table lookup.
+ * Instances are immutable.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class SortedIntIndex {
+
+   /** All values in ascending order, including duplicates. */
+   private final int[] sorted;
+
+   /** The distinct values in ascending order. */
+   private final int[] distinct;
+
+
+   /**
+    * Builds an index over the values in a. This constructor throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this constructor.
+    */
+   public SortedIntIndex(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      sorted = Arrays.copyOf(a, a.length);
+      Arrays.sort(sorted);
+
+      int d = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            d++;
+         }
+      }
+      distinct = new int[d];
+      distinct[0] = sorted[0];
+      d = 1;
+      for (int i = 1; i < sorted.length; i++) {
+         if (sorted[i] != sorted[i - 1]) {
+            distinct[d++] = sorted[i];
+         }
+      }
+   }
+
+
+   /**
+    * Returns the number of values in the index, including duplicates.
+    */
+   public int size() {
+      return sorted.length;
+   }
+
+
+   /**
+    * Returns the number of distinct values in the index.
+    */
+   public int distinctCount() {
+      return distinct.length;
+   }
+
+
+   /**
+    * Returns the minimum value.
+    */
+   public int min() {
+      return sorted[0];
+   }
+
+
+   /**
+    * Returns the maximum value.
+    */
+   public int max() {
+      return sorted[sorted.length - 1];
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value. This method throws
+    * IllegalArgumentException if there is no kth minimum value.
+    */
+   public int kmin(int k) {
+      if ((k < 1) || (k > distinct.length)) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[k - 1];
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value. This method throws
+    * IllegalArgumentException if there is no kth maximum value.
+    */
+   public int kmax(int k) {
+      if ((k < 1) || (k > distinct.length)) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[distinct.length - k];
+   }
+
+
+   /**
+    * Returns a read-only view of all the values in the range
+    * [low..high], including duplicates. Unlike Selector.range, the
+    * values are in ascending order. The view shares storage with the
+    * index, so no values are copied. If there are no qualifying
+    * values, the view is empty.
+    */
+   public IntBuffer range(int low, int high) {
+      int from = lowerBound(sorted, low);
+      int to = (high < low) ? from : upperBound(sorted, high);
+      return IntBuffer.wrap(sorted, from, Math.max(0, to - from)).slice()
+         .asReadOnlyBuffer();
+   }
+
+
+   /**
+    * Returns the number of values in the range [low..high],
+    * including duplicates.
+    */
+   public int rangeCount(int low, int high) {
+      if (high < low) {
+         return 0;
+      }
+      return upperBound(sorted, high) - lowerBound(sorted, low);
+   }
+
+
+   /**
+    * Returns the smallest value that is greater than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int ceiling(int key) {
+      int i = lowerBound(distinct, key);
+      if (i == distinct.length) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[i];
+   }
+
+
+   /**
+    * Returns the largest value that is less than or equal to the
+    * given key. This method throws IllegalArgumentException if there
+    * is no qualifying value.
+    */
+   public int floor(int key) {
+      int i = upperBound(distinct, key) - 1;
+      if (i < 0) {
+         throw new IllegalArgumentException();
+      }
+      return distinct[i];
+   }
+
+
+   /**
+    * Returns true if key is one of the indexed values.
+    */
+   public boolean contains(int key) {
+      return Arrays.binarySearch(distinct, key) >= 0;
+   }
+
+
+   /** Returns the index of the first value in a that is >= key. */
+   static int lowerBound(int[] a, int key) {
+      int left = 0;
+      int right = a.length;
+      while (left < right) {
+         int mid = (left + right) >>> 1;
+         if (a[mid] < key) {
+            left = mid + 1;
+         }
+         else {
+            right = mid;
+         }
+      }
+      return left;
+   }
+
+
+   /** Returns the index of the first value in a that is > key. */
+   static int upperBound(int[] a, int key) {
+      int left = 0;
+      int right = a.length;
+      while (left < right) {
+         int mid = (left + right) >>> 1;
+         if (a[mid] <= key) {
+            left = mid + 1;
+         }
+         else {
+            right = mid;
+         }
+      }
+      return left;
+   }
+}
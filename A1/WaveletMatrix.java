@@ -0,0 +1,257 @@
+import java.util.Arrays;
+
+/**
+ * Indexes an array of ints once so that the Selector questions can
+ * be asked about any subarray a[from..to) without copying it. This
+ * is a wavelet matrix: the values are replaced by their ranks among
+ * the distinct values (0..sigma-1), and each of the log2(sigma) bit
+ * levels is stored as a bit vector with a rank directory, so the
+ * index takes about n log2(sigma) bits plus the table of distinct
+ * values.
+ *
+ * kthSmallest, rank, and rangeCount take O(log sigma) time. Like
+ * Selector, kmin and kmax count distinct values; a wavelet matrix
+ * counts with duplicates, so they step from one distinct value to
+ * the next and take O(k log sigma) time. Instances are immutable.
+ *
+ * @author   Kelci Jenkins (kdj0022@auburn.edu)
+ * @version  10/16/2026
+ *
+ */
+public final class WaveletMatrix {
+
+   /** The distinct values in ascending order. */
+   private final int[] values;
+
+   /** Number of elements indexed. */
+   private final int n;
+
+   /** Number of bit levels, enough to hold values.length - 1. */
+   private final int levels;
+
+   /** The bit vector of each level, most significant bit first. */
+   private final long[][] bits;
+
+   /** ranks[l][w] is the number of 1s in bits[l][0..w). */
+   private final int[][] ranks;
+
+   /** Number of 0s in each level. */
+   private final int[] zeros;
+
+
+   /**
+    * Builds the index over the values in a. This constructor throws
+    * IllegalArgumentException if a is null or has zero length. The
+    * array a is not changed by this constructor.
+    */
+   public WaveletMatrix(int[] a) {
+      if ((a == null) || (a.length == 0)) {
+         throw new IllegalArgumentException();
+      }
+      n = a.length;
+
+      // distinct values, and each value replaced by its rank
+      int[] sorted = Arrays.copyOf(a, n);
+      Arrays.sort(sorted);
+      int d = 1;
+      for (int i = 1; i < n; i++) {
+         if (sorted[i] != sorted[d - 1]) {
+            sorted[d++] = sorted[i];
+         }
+      }
+      values = Arrays.copyOf(sorted, d);
+      int[] cur = new int[n];
+      for (int i = 0; i < n; i++) {
+         cur[i] = Arrays.binarySearch(values, a[i]);
+      }
+
+      levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(d - 1));
+      int words = (n >>> 6) + 1;
+      bits = new long[levels][words];
+      ranks = new int[levels][words + 1];
+      zeros = new int[levels];
+
+      // each level is a stable partition of the last by one bit
+      int[] next = new int[n];
+      for (int l = 0; l < levels; l++) {
+         int b = levels - 1 - l;
+         int z = 0;
+         for (int i = 0; i < n; i++) {
+            if (((cur[i] >>> b) & 1) == 0) {
+               next[z++] = cur[i];
+            }
+            else {
+               bits[l][i >>> 6] |= 1L << i;
+            }
+         }
+         zeros[l] = z;
+         int o = z;
+         for (int i = 0; i < n; i++) {
+            if (((cur[i] >>> b) & 1) != 0) {
+               next[o++] = cur[i];
+            }
+         }
+         for (int w = 0; w < words; w++) {
+            ranks[l][w + 1] = ranks[l][w] + Long.bitCount(bits[l][w]);
+         }
+         int[] t = cur;
+         cur = next;
+         next = t;
+      }
+   }
+
+
+   /**
+    * Returns the number of values indexed.
+    */
+   public int size() {
+      return n;
+   }
+
+
+   /**
+    * Returns the kth smallest value in a[from..to), counting
+    * duplicates, so kthSmallest(from, to, 1) is the minimum and
+    * kthSmallest(from, to, to - from) the maximum. This method throws
+    * IllegalArgumentException if [from..to) is not a non-empty range
+    * of the array or if k is not in [1..to - from].
+    */
+   public int kthSmallest(int from, int to, int k) {
+      checkRange(from, to);
+      if ((k < 1) || (k > to - from)) {
+         throw new IllegalArgumentException();
+      }
+      return values[kth(from, to, k - 1)];
+   }
+
+
+   /**
+    * Returns the kth minimum distinct value in a[from..to). This
+    * method throws IllegalArgumentException if [from..to) is not a
+    * non-empty range of the array or if there is no kth minimum
+    * value.
+    */
+   public int kmin(int from, int to, int k) {
+      checkRange(from, to);
+      if ((k < 1) || (k > to - from)) {
+         throw new IllegalArgumentException();
+      }
+      int v = kth(from, to, 0);
+      for (int j = 1; j < k; j++) {
+         int below = rankLess(from, to, v + 1);
+         if (below == to - from) {
+            throw new IllegalArgumentException();
+         }
+         v = kth(from, to, below);
+      }
+      return values[v];
+   }
+
+
+   /**
+    * Returns the kth maximum distinct value in a[from..to). This
+    * method throws IllegalArgumentException if [from..to) is not a
+    * non-empty range of the array or if there is no kth maximum
+    * value.
+    */
+   public int kmax(int from, int to, int k) {
+      checkRange(from, to);
+      if ((k < 1) || (k > to - from)) {
+         throw new IllegalArgumentException();
+      }
+      int v = kth(from, to, to - from - 1);
+      for (int j = 1; j < k; j++) {
+         int below = rankLess(from, to, v);
+         if (below == 0) {
+            throw new IllegalArgumentException();
+         }
+         v = kth(from, to, below - 1);
+      }
+      return values[v];
+   }
+
+
+   /**
+    * Returns the number of values in a[from..to) that are less than
+    * value. This method throws IllegalArgumentException if
+    * [from..to) is not a non-empty range of the array.
+    */
+   public int rank(int from, int to, int value) {
+      checkRange(from, to);
+      return rankLess(from, to, SortedIntIndex.lowerBound(values, value));
+   }
+
+
+   /**
+    * Returns the number of values in a[from..to) in the range
+    * [low..high], including duplicates. This method throws
+    * IllegalArgumentException if [from..to) is not a non-empty range
+    * of the array.
+    */
+   public int rangeCount(int from, int to, int low, int high) {
+      checkRange(from, to);
+      if (high < low) {
+         return 0;
+      }
+      return rankLess(from, to, SortedIntIndex.upperBound(values, high))
+         - rankLess(from, to, SortedIntIndex.lowerBound(values, low));
+   }
+
+
+   /** Returns the code of the value at sorted position r (0-based) in [from..to). */
+   private int kth(int from, int to, int r) {
+      int code = 0;
+      for (int l = 0; l < levels; l++) {
+         int onesFrom = rank1(l, from);
+         int onesTo = rank1(l, to);
+         int z = (to - from) - (onesTo - onesFrom);
+         if (r < z) {
+            from -= onesFrom;
+            to -= onesTo;
+         }
+         else {
+            r -= z;
+            code |= 1 << (levels - 1 - l);
+            from = zeros[l] + onesFrom;
+            to = zeros[l] + onesTo;
+         }
+      }
+      return code;
+   }
+
+
+   /** Returns the number of value codes in [from..to) that are below code. */
+   private int rankLess(int from, int to, int code) {
+      if (code >= (1L << levels)) {
+         return to - from;
+      }
+      int less = 0;
+      for (int l = 0; l < levels; l++) {
+         int onesFrom = rank1(l, from);
+         int onesTo = rank1(l, to);
+         if (((code >>> (levels - 1 - l)) & 1) == 0) {
+            from -= onesFrom;
+            to -= onesTo;
+         }
+         else {
+            less += (to - from) - (onesTo - onesFrom);
+            from = zeros[l] + onesFrom;
+            to = zeros[l] + onesTo;
+         }
+      }
+      return less;
+   }
+
+
+   /** Returns the number of 1s in bits[l] before position i. */
+   private int rank1(int l, int i) {
+      return ranks[l][i >>> 6] + Long.bitCount(bits[l][i >>> 6] & ((1L << i) - 1));
+   }
+
+
+   private void checkRange(int from, int to) {
+      if ((from < 0) || (to > n) || (from >= to)) {
+         throw new IllegalArgumentException();
+      }
+   }
+}
@@ -0,0 +1,166 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Defines the selection engine used by Selector. It finds the kth
+ * smallest distinct element of an array under a comparator, where
+ * elements that compare equal count as one, by introselect: each
+ * step partitions around a median-of-three pivot into the elements
+ * below, equal to, and above it, and only the part holding the
+ * answer is searched further. Finding how many distinct elements lie
+ * below the pivot takes a sort of that part when the answer lies
+ * above it, so the cost is O(n + m log m) comparisons, where m is the
+ * number of elements below the answer. Partitioning has a fixed
+ * budget of 2 log2(n) steps. It does not check that the range shrank,
+ * and once the budget runs out the rest of the range is sorted. So up
+ * to 2 log2(n) full passes can come before that sort, and the worst
+ * case is O(n log n) comparisons.
+ *
+ * @author  Kelci Jenkins (kdj0022@auburn.edu)
+ *
+ */
+final class ObjectSelect {
+
+   /** Ranges this short are sorted rather than partitioned. */
+   private static final int SORT_CUTOFF = 16;
+
+   /** Returned by select when the answer is not in the range. */
+   static final Object NONE = new Object();
+
+   private ObjectSelect() { }
+
+
+   /**
+    * Returns the kth smallest distinct element of a under comp, or
+    * throws NoSuchElementException if a has fewer than k distinct
+    * elements. The elements of a are reordered.
+    */
+   @SuppressWarnings("unchecked")
+   static <T> T kthDistinct(T[] a, int k, Comparator<? super T> comp) {
+      Object kth = find(a, k, comp);
+      if (kth == NONE) {
+         throw new NoSuchElementException();
+      }
+      return (T) kth;
+   }
+
+
+   /**
+    * Returns the kth smallest distinct element of a under comp, or
+    * NONE if a has fewer than k distinct elements. The elements of a
+    * are reordered.
+    */
+   @SuppressWarnings("unchecked")
+   static <T> Object find(T[] a, int k, Comparator<? super T> comp) {
+      if (k > a.length) {
+         return NONE;
+      }
+      int[] count = new int[1];
+      return select(a, 0, a.length, k, (Comparator<Object>) comp, count,
+         2 * (32 - Integer.numberOfLeadingZeros(Math.max(1, a.length))));
+   }
+
+
+   /**
+    * Returns the kth smallest distinct element of a[from..to), or
+    * returns NONE and stores the number of distinct elements in
+    * a[from..to) in count[0].
+    */
+   private static Object select(Object[] a, int from, int to, int k,
+                                Comparator<Object> comp, int[] count, int depth) {
+      int below = 0;
+      while (true) {
+         if ((to - from <= SORT_CUTOFF) || (depth-- == 0)) {
+            Arrays.sort(a, from, to, comp);
+            int d = 0;
+            for (int i = from; i < to; i++) {
+               if ((i == from) || (comp.compare(a[i - 1], a[i]) != 0)) {
+                  if (++d == k) {
+                     return a[i];
+                  }
+               }
+            }
+            count[0] = below + d;
+            return NONE;
+         }
+
+         Object p = medianOfThree(a[from], a[(from + to) >>> 1], a[to - 1], comp);
+
+         // three-way partition around p
+         int lt = from;
+         int gt = to - 1;
+         int i = from;
+         while (i <= gt) {
+            int cmp = comp.compare(a[i], p);
+            if (cmp < 0) {
+               swap(a, lt++, i++);
+            }
+            else if (cmp > 0) {
+               swap(a, i, gt--);
+            }
+            else {
+               i++;
+            }
+         }
+
+         // distinct elements below p; only worth a search if k might fit
+         int d;
+         if (lt - from >= k) {
+            Object kth = select(a, from, lt, k, comp, count, depth);
+            if (kth != NONE) {
+               return kth;
+            }
+            d = count[0];
+         }
+         else {
+            d = distinctCount(a, from, lt, comp);
+         }
+
+         if (k == d + 1) {
+            return p;
+         }
+         k -= d + 1;
+         below += d + 1;
+         from = gt + 1;
+         if (from >= to) {
+            count[0] = below;
+            return NONE;
+         }
+      }
+   }
+
+
+   /** Sorts a[from..to) and returns how many distinct elements it holds. */
+   private static int distinctCount(Object[] a, int from, int to, Comparator<Object> comp) {
+      Arrays.sort(a, from, to, comp);
+      int d = 0;
+      for (int i = from; i < to; i++) {
+         if ((i == from) || (comp.compare(a[i - 1], a[i]) != 0)) {
+            d++;
+         }
+      }
+      return d;
+   }
+
+
+   private static Object medianOfThree(Object x, Object y, Object z, Comparator<Object> comp) {
+      if (comp.compare(x, y) < 0) {
+         if (comp.compare(y, z) < 0) {
+            return y;
+         }
+         return (comp.compare(x, z) < 0) ? z : x;
+      }
+      if (comp.compare(x, z) < 0) {
+         return x;
+      }
+      return (comp.compare(y, z) < 0) ? z : y;
+   }
+
+
+   private static void swap(Object[] a, int i, int j) {
+      Object t = a[i];
+      a[i] = a[j];
+      a[j] = t;
+   }
+}
@@ -0,0 +1,400 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Defines parallel versions of the selection methods in Selector.
+ * The collection is split with its own Spliterator into chunks that
+ * are processed as tasks on the common ForkJoinPool, and the results
+ * of the chunks are combined. Collections smaller than
+ * PARALLEL_THRESHOLD, sets whose order already answers the question,
+ * and, for min, priority queues ordered by comp are handed to
+ * Selector on the calling thread. Every method has the same contract
+ * as the Selector method of the same name, and comp must be safe to
+ * call from several threads at once.
+ *
+ * @author  Kelci Jenkins (kdj0022@auburn.edu)
+ *
+ */
+public final class ParallelSelector {
+
+   /** Collections smaller than this are not worth splitting. */
+   static final int PARALLEL_THRESHOLD = 1 << 14;
+
+   /** Chunks no larger than this are not split further. */
+   static final int CHUNK = 1 << 12;
+
+   /** Marks a chunk with no qualifying value. */
+   private static final Object NONE = new Object();
+
+   private ParallelSelector() { }
+
+
+   /**
+    * Returns the minimum value in the Collection coll as defined by the
+    * Comparator comp.
+    *
+    * @param coll    the Collection from which the minimum is selected
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the minimum value in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty
+    */
+   public static <T> T min(Collection<T> coll, Comparator<T> comp) {
+      if (sequential(coll, comp)
+            || ((coll instanceof PriorityQueue)
+               && Selector.sameOrder(((PriorityQueue<T>) coll).comparator(), comp))) {
+         return Selector.min(coll, comp);
+      }
+      return unwrap(invoke(coll,
+         s -> least(s, comp),
+         (x, y) -> better(x, y, comp)));
+   }
+
+
+   /**
+    * Returns the maximum value in the Collection coll as defined by the
+    * Comparator comp.
+    *
+    * @param coll    the Collection from which the maximum is selected
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the maximum value in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty
+    */
+   public static <T> T max(Collection<T> coll, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.max(coll, comp);
+      }
+      Comparator<T> reversed = comp.reversed();
+      return unwrap(invoke(coll,
+         s -> least(s, reversed),
+         (x, y) -> better(x, y, reversed)));
+   }
+
+
+   /**
+    * Returns the kth minimum value in the Collection coll as defined by
+    * the Comparator comp. Each chunk keeps only its k smallest distinct
+    * values as candidates, and candidates are merged in pairs, so no
+    * more than k values per chunk outlive the chunk's task.
+    *
+    * @param coll    the Collection from which the kth minimum is selected
+    * @param k       the k-selection value
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the kth minimum value in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty or if there is
+    *                no kth minimum value
+    */
+   public static <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
+      if (sequential(coll, comp) || (k < 1) || (k > coll.size())) {
+         return Selector.kmin(coll, k, comp);
+      }
+      return kth(coll, k, comp);
+   }
+
+
+   /**
+    * Returns the kth maximum value in the Collection coll as defined by
+    * the Comparator comp, in the same way as kmin.
+    *
+    * @param coll    the Collection from which the kth maximum is selected
+    * @param k       the k-selection value
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the kth maximum value in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty or if there is
+    *                no kth maximum value
+    */
+   public static <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
+      if (sequential(coll, comp) || (k < 1) || (k > coll.size())) {
+         return Selector.kmax(coll, k, comp);
+      }
+      return kth(coll, k, comp.reversed());
+   }
+
+
+   /**
+    * Returns a new Collection containing all the values in the Collection
+    * coll in the range [low..high] as defined by the Comparator comp,
+    * including duplicates, in the order coll's Spliterator meets them.
+    *
+    * @param coll    the Collection from which the range values are selected
+    * @param low     the lower bound of the range
+    * @param high    the upper bound of the range
+    * @param comp    the Comparator that defines the total order on T
+    * @return        a Collection of values between low and high
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty or if no values
+    *                are in the range
+    */
+   public static <T> Collection<T> range(Collection<T> coll, T low, T high,
+                                                      Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.range(coll, low, high, comp);
+      }
+      // each chunk's list, in encounter order
+      List<List<T>> parts = invoke(coll,
+         s -> {
+            List<T> part = new ArrayList<T>();
+            s.forEachRemaining(val -> {
+               if (comp.compare(val, low) >= 0 && comp.compare(val, high) <= 0) {
+                  part.add(val);
+               }
+            });
+            List<List<T>> one = new ArrayList<List<T>>();
+            one.add(part);
+            return one;
+         },
+         (x, y) -> {
+            x.addAll(y);
+            return x;
+         });
+      int size = 0;
+      for (List<T> part : parts) {
+         size += part.size();
+      }
+      if (size == 0) {
+         throw new NoSuchElementException();
+      }
+      ArrayList<T> range = new ArrayList<T>(size);
+      for (List<T> part : parts) {
+         range.addAll(part);
+      }
+      return range;
+   }
+
+
+   /**
+    * Returns the smallest value in the Collection coll that is greater
+    * than or equal to key, as defined by the Comparator comp.
+    *
+    * @param coll    the Collection from which the ceiling value is selected
+    * @param key     the reference value
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the ceiling value of key in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty or if there is
+    *                no qualifying value
+    */
+   public static <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.ceiling(coll, key, comp);
+      }
+      return unwrap(invoke(coll,
+         s -> bound(s, key, comp),
+         (x, y) -> better(x, y, comp)));
+   }
+
+
+   /**
+    * Returns the largest value in the Collection coll that is less than
+    * or equal to key, as defined by the Comparator comp.
+    *
+    * @param coll    the Collection from which the floor value is selected
+    * @param key     the reference value
+    * @param comp    the Comparator that defines the total order on T
+    * @return        the floor value of key in coll
+    * @throws        IllegalArgumentException if coll or comp is null
+    * @throws        NoSuchElementException if coll is empty or if there is
+    *                no qualifying value
+    */
+   public static <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
+      if (sequential(coll, comp)) {
+         return Selector.floor(coll, key, comp);
+      }
+      Comparator<T> reversed = comp.reversed();
+      return unwrap(invoke(coll,
+         s -> bound(s, key, reversed),
+         (x, y) -> better(x, y, reversed)));
+   }
+
+
+   /**
+    * Returns true if the call should be left to Selector: the
+    * arguments are bad, the collection is small, or it is a set in
+    * comp's order.
+    */
+   private static <T> boolean sequential(Collection<T> coll, Comparator<T> comp) {
+      return (coll == null) || (comp == null)
+         || (coll.size() < PARALLEL_THRESHOLD)
+         || (Selector.sortedIn(coll, comp) != null);
+   }
+
+
+   /** Splits coll with its Spliterator and reduces the chunks on the common pool. */
+   private static <T, R> R invoke(Collection<T> coll, Function<Spliterator<T>, R> leaf,
+                                  BinaryOperator<R> combine) {
+      return ForkJoinPool.commonPool()
+         .invoke(new Split<T, R>(coll.spliterator(), leaf, combine));
+   }
+
+
+   /**
+    * Returns the chunk's least value under comp, or NONE. max passes
+    * comp reversed, so a comparison result is never negated.
+    */
+   private static <T> Object least(Spliterator<T> s, Comparator<T> comp) {
+      Object[] best = {NONE};
+      s.forEachRemaining(val -> {
+         if (best[0] == NONE || comp.compare(val, cast(best[0])) < 0) {
+            best[0] = val;
+         }
+      });
+      return best[0];
+   }
+
+
+   /**
+    * Returns the chunk's least value >= key under comp, or NONE. floor
+    * passes comp reversed.
+    */
+   private static <T> Object bound(Spliterator<T> s, T key, Comparator<T> comp) {
+      Object[] best = {NONE};
+      s.forEachRemaining(val -> {
+         if (comp.compare(val, key) >= 0
+               && (best[0] == NONE || comp.compare(val, cast(best[0])) < 0)) {
+            best[0] = val;
+         }
+      });
+      return best[0];
+   }
+
+
+   /** Returns the lesser of two chunk results under comp, preferring x on ties. */
+   private static <T> Object better(Object x, Object y, Comparator<T> comp) {
+      if (x == NONE) {
+         return y;
+      }
+      if (y == NONE) {
+         return x;
+      }
+      return (comp.compare(cast(y), cast(x)) < 0) ? y : x;
+   }
+
+
+   /**
+    * Finds the kth smallest distinct value. Each chunk selects its own
+    * kth smallest distinct value and keeps the sorted distinct values
+    * up to it; pairs of candidate lists are merged, keeping k.
+    */
+   private static <T> T kth(Collection<T> coll, int k, Comparator<T> comp) {
+      List<T> candidates = invoke(coll,
+         s -> candidates(s, k, comp),
+         (x, y) -> merge(x, y, k, comp));
+      if (candidates.size() < k) {
+         throw new NoSuchElementException();
+      }
+      return candidates.get(k - 1);
+   }
+
+
+   /** Returns the chunk's k smallest distinct values, in ascending order. */
+   private static <T> List<T> candidates(Spliterator<T> s, int k, Comparator<T> comp) {
+      List<T> chunk = new ArrayList<T>();
+      s.forEachRemaining(chunk::add);
+      T[] a = Selector.toArray(chunk);
+      int n = a.length;
+
+      // prune to the values at or below the chunk's kth distinct value;
+      // with fewer than k distinct values, keep them all
+      Object kth = (k > n) ? ObjectSelect.NONE : ObjectSelect.find(a, k, comp);
+      if (kth != ObjectSelect.NONE) {
+         n = 0;
+         for (T val : chunk) {
+            if (comp.compare(val, cast(kth)) <= 0) {
+               a[n++] = val;
+            }
+         }
+      }
+      Arrays.sort(a, 0, n, comp);
+      List<T> distinct = new ArrayList<T>(Math.min(n, k));
+      for (int i = 0; i < n; i++) {
+         if (i == 0 || comp.compare(a[i - 1], a[i]) != 0) {
+            distinct.add(a[i]);
+         }
+      }
+      return distinct;
+   }
+
+
+   /** Merges two ascending distinct lists, keeping the first k values. */
+   private static <T> List<T> merge(List<T> x, List<T> y, int k, Comparator<T> comp) {
+      List<T> merged = new ArrayList<T>(Math.min(k, x.size() + y.size()));
+      int i = 0;
+      int j = 0;
+      while (merged.size() < k && (i < x.size() || j < y.size())) {
+         int cmp = (i == x.size()) ? 1 : (j == y.size()) ? -1
+            : comp.compare(x.get(i), y.get(j));
+         if (cmp <= 0) {
+            merged.add(x.get(i++));
+            if (cmp == 0) {
+               j++;
+            }
+         }
+         else {
+            merged.add(y.get(j++));
+         }
+      }
+      return merged;
+   }
+
+
+   private static <T> T unwrap(Object result) {
+      if (result == NONE) {
+         throw new NoSuchElementException();
+      }
+      return cast(result);
+   }
+
+
+   @SuppressWarnings("unchecked")
+   private static <T> T cast(Object o) {
+      return (T) o;
+   }
+
+
+   /**
+    * Splits its Spliterator until the chunks are no larger than CHUNK,
+    * runs the leaf function on each, and combines the results of the
+    * prefix and the rest in encounter order.
+    */
+   private static final class Split<T, R> extends RecursiveTask<R> {
+
+      private static final long serialVersionUID = 1L;
+
+      private final Spliterator<T> spliterator;
+      private final Function<Spliterator<T>, R> leaf;
+      private final BinaryOperator<R> combine;
+
+      Split(Spliterator<T> spliterator, Function<Spliterator<T>, R> leaf,
+            BinaryOperator<R> combine) {
+         this.spliterator = spliterator;
+         this.leaf = leaf;
+         this.combine = combine;
+      }
+
+      @Override
+      protected R compute() {
+         Spliterator<T> prefix;
+         if ((spliterator.estimateSize() > CHUNK)
+               && ((prefix = spliterator.trySplit()) != null)) {
+            Split<T, R> left = new Split<T, R>(prefix, leaf, combine);
+            left.fork();
+            R right = new Split<T, R>(spliterator, leaf, combine).compute();
+            return combine.apply(left.join(), right);
+         }
+         return leaf.apply(spliterator);
+      }
+   }
+}
@@ -1,13 +1,26 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+import java.util.stream.Stream;
 
 /**
  * Defines a library of selection methods on Collections.
  *
+ * Each method first looks at what kind of Collection it was given.
+ * A SortedSet or NavigableSet whose comparator is the same as comp
+ * answers min, max, kmin, kmax, range, ceiling, and floor from its
+ * own order, and a PriorityQueue ordered by comp answers min with
+ * peek. RandomAccess lists are scanned by index rather than with an
+ * iterator. Anything else is scanned with its iterator.
+ *
  * @author  Kelci Jenkins (kdj0022@auburn.edu)
  *
  */
@@ -42,6 +55,25 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      SortedSet<T> set = sortedIn(coll, comp);
+      if (set != null) {
+         return set.first();
+      }
+      if ((coll instanceof PriorityQueue)
+            && sameOrder(((PriorityQueue<T>) coll).comparator(), comp)) {
+         return ((PriorityQueue<T>) coll).peek();
+      }
+      List<T> list = indexed(coll);
+      if (list != null) {
+         T min = list.get(0);
+         for (int i = 1; i < list.size(); i++) {
+            if (comp.compare(list.get(i), min) < 0) {
+               min = list.get(i);
+            }
+         }
+         return min;
+      }
+      
       Iterator<T> itr = coll.iterator();
       T min = itr.next();
       
@@ -74,6 +106,21 @@ public final class Selector {
       if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
+      SortedSet<T> set = sortedIn(coll, comp);
+      if (set != null) {
+         return set.last();
+      }
+      List<T> list = indexed(coll);
+      if (list != null) {
+         T max = list.get(0);
+         for (int i = 1; i < list.size(); i++) {
+            if (comp.compare(list.get(i), max) > 0) {
+               max = list.get(i);
+            }
+         }
+         return max;
+      }
+      
       Iterator<T> itr = coll.iterator();
       T max = itr.next();
       
@@ -108,36 +155,20 @@ public final class Selector {
       if (coll.isEmpty() || k < 1 || k > coll.size()) {
          throw new NoSuchElementException();
       }
-      // array list
-      ArrayList<T> list = new ArrayList<T>();
-      Iterator<T> itr = coll.iterator();
-      
-      while (itr.hasNext()) {
-         list.add(itr.next());
-      }
-      java.util.Collections.sort(list, comp); 
-      //ireturning if k = 1
       if (k == 1) {
-         return list.get(0);
-      }
-      // chcking for kmin
-      int distinct = 1;
-      T val = list.get(0);
-      T kmin = null;
-      for (int i = 1; i < list.size(); i ++) {
-         if (!list.get(i).equals(val)) {
-            distinct++;
-            if (k == distinct) {
-               kmin = list.get(i);
-            }
-         }
-         val = list.get(i);
+         return min(coll, comp);
       }
-      
-      if (k > distinct) {
-         throw new NoSuchElementException();
+      // a set ordered by comp holds no two equal values
+      SortedSet<T> set = sortedIn(coll, comp);
+      if (set != null) {
+         Iterator<T> itr = set.iterator();
+         for (int i = 1; i < k; i++) {
+            itr.next();
+         }
+         return itr.next();
       }
-      return kmin;      
+      // introselect on a copy, distinct under comp
+      return ObjectSelect.kthDistinct(toArray(coll), k, comp);
    }
 
 
@@ -162,36 +193,20 @@ public final class Selector {
       if (coll.isEmpty() || k < 1 || k > coll.size()) {
          throw new NoSuchElementException();
       }
-      // array list
-      ArrayList<T> list = new ArrayList<T>();
-      Iterator<T> itr = coll.iterator();
-      while (itr.hasNext()) {
-         list.add(itr.next());
-      }
-                     
-      java.util.Collections.sort(list, comp);
-      // returning if k is = to 1
       if (k == 1) {
-         return list.get(list.size() - 1);
-      }
-      // checking array for distinct elements
-      int distinct = 1;
-      T val = list.get(list.size() - 1);
-      T kmax = null;
-      for (int i = list.size() - 2; i >= 0; i--) {
-         if (!list.get(i).equals(val)) {
-            distinct++;
-            if (k == distinct) {
-               kmax = list.get(i);
-            }
-         }
-         val = list.get(i);
+         return max(coll, comp);
       }
-   
-      if (k > distinct) {
-         throw new NoSuchElementException();
+      NavigableSet<T> set = navigableIn(coll, comp);
+      if (set != null) {
+         Iterator<T> itr = set.descendingIterator();
+         for (int i = 1; i < k; i++) {
+            itr.next();
+         }
+         return itr.next();
       }
-      return kmax;      }
+      // the kth maximum is the kth minimum in reverse order
+      return ObjectSelect.kthDistinct(toArray(coll), k, comp.reversed());
+   }
 
 
     /**
@@ -203,7 +218,9 @@ public final class Selector {
      * returned Collection. If no values in coll fall into the specified range or
      * if coll is empty, this method throws a NoSuchElementException. If either
      * coll or comp is null, this method throws an IllegalArgumentException. This
-     * method will not change coll in any way.
+     * method will not change coll in any way. If coll is a NavigableSet
+     * ordered by comp, the returned Collection is a read-only view of the
+     * set's range rather than a copy.
      *
      * @param coll    the Collection from which the range values are selected
      * @param low     the lower bound of the range
@@ -222,12 +239,32 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      NavigableSet<T> set = navigableIn(coll, comp);
+      if (set != null) {
+         NavigableSet<T> view = rangeOf(set, low, high, comp);
+         if (view == null) {
+            throw new NoSuchElementException();
+         }
+         return Collections.unmodifiableCollection(view);
+      }
+      
       ArrayList<T> range = new ArrayList<T>();
-      Iterator<T> itr = coll.iterator();
-      while (itr.hasNext()) {
-         T val = itr.next();
-         if (comp.compare(val, low) >= 0 && comp.compare(val,high) <= 0) {
-            range.add(val);
+      List<T> list = indexed(coll);
+      if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T val = list.get(i);
+            if (comp.compare(val, low) >= 0 && comp.compare(val, high) <= 0) {
+               range.add(val);
+            }
+         }
+      }
+      else {
+         Iterator<T> itr = coll.iterator();
+         while (itr.hasNext()) {
+            T val = itr.next();
+            if (comp.compare(val, low) >= 0 && comp.compare(val,high) <= 0) {
+               range.add(val);
+            }
          }
       }
       if (range.isEmpty()) {
@@ -237,13 +274,70 @@ public final class Selector {
    }
 
 
+    /**
+     * Returns a lazy Stream of the values in the Collection coll that are
+     * greater than or equal to low and less than or equal to high, as
+     * defined by the Comparator comp, including duplicates, in coll's
+     * iteration order. Unlike range, nothing is copied: values are tested
+     * only as the stream is consumed, so findFirst or limit stop the scan
+     * early. If no values qualify, the stream is empty rather than an
+     * exception being thrown. If coll is a NavigableSet ordered by comp,
+     * the stream is over the set's range. If either coll or comp is null,
+     * this method throws an IllegalArgumentException. The stream reads
+     * coll as it is consumed, so coll should not be changed until then.
+     *
+     * @param coll    the Collection from which the range values are selected
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Stream of values between low and high
+     * @throws        IllegalArgumentException as per above
+     */
+   public static <T> Stream<T> rangeStream(Collection<T> coll, T low, T high,
+                                                      Comparator<T> comp) {
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      NavigableSet<T> set = navigableIn(coll, comp);
+      if (set != null) {
+         NavigableSet<T> view = rangeOf(set, low, high, comp);
+         return (view == null) ? Stream.empty() : view.stream();
+      }
+      return coll.stream()
+         .filter(val -> comp.compare(val, low) >= 0 && comp.compare(val, high) <= 0);
+   }
+
+
+    /**
+     * Returns a lazy Iterable over the values in the Collection coll that
+     * are greater than or equal to low and less than or equal to high, as
+     * defined by the Comparator comp, as rangeStream does. Each iteration
+     * scans coll afresh and stops when the caller stops.
+     *
+     * @param coll    the Collection from which the range values are selected
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @param comp    the Comparator that defines the total order on T
+     * @return        an Iterable of values between low and high
+     * @throws        IllegalArgumentException if either coll or comp is null
+     */
+   public static <T> Iterable<T> rangeView(Collection<T> coll, T low, T high,
+                                                      Comparator<T> comp) {
+      if (coll == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+      return () -> rangeStream(coll, low, high, comp).iterator();
+   }
+
+
     /**
      * Returns the smallest value in the Collection coll that is greater than
      * or equal to key, as defined by the Comparator comp. The value of key
      * does not have to be in coll. If coll or comp is null, this method throws
      * an IllegalArgumentException. If coll is empty or if there is no
      * qualifying value, this method throws a NoSuchElementException. This
-     * method will not change coll in any way.
+     * method will not change coll in any way. If coll is a NavigableSet
+     * ordered by comp, the set's own ceiling method is used.
      *
      * @param coll    the Collection from which the ceiling value is selected
      * @param key     the reference value
@@ -260,22 +354,43 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      else {  
-         Iterator itr = coll.iterator();
-         
-         // greater than equal to
-         Collection<T> newList = Selector.range(coll, key, Selector.max(coll, comp), comp);
-         
-         // checking for values
-         if (newList.size() == 0) {
+      // a set in the same order already knows the answer
+      NavigableSet<T> set = navigableIn(coll, comp);
+      if (set != null) {
+         T ceilingValue = set.ceiling(key);
+         if (ceilingValue == null) {
             throw new NoSuchElementException();
          }
-         
-         // smallest values
-         T ceilingValue = Selector.min(newList, comp);
-         
          return ceilingValue;
-      }      
+      }
+      
+      // smallest value >= key, in one pass
+      boolean found = false;
+      T ceilingValue = null;
+      List<T> list = indexed(coll);
+      if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T val = list.get(i);
+            if (comp.compare(val, key) >= 0
+                  && (!found || comp.compare(val, ceilingValue) < 0)) {
+               ceilingValue = val;
+               found = true;
+            }
+         }
+      }
+      else {
+         for (T val : coll) {
+            if (comp.compare(val, key) >= 0
+                  && (!found || comp.compare(val, ceilingValue) < 0)) {
+               ceilingValue = val;
+               found = true;
+            }
+         }
+      }
+      if (!found) {
+         throw new NoSuchElementException();
+      }
+      return ceilingValue;
    }
 
 
@@ -285,7 +400,8 @@ public final class Selector {
      * does not have to be in coll. If coll or comp is null, this method throws
      * an IllegalArgumentException. If coll is empty or if there is no
      * qualifying value, this method throws a NoSuchElementException. This
-     * method will not change coll in any way.
+     * method will not change coll in any way. If coll is a NavigableSet
+     * ordered by comp, the set's own floor method is used.
      *
      * @param coll    the Collection from which the floor value is selected
      * @param key     the reference value
@@ -302,23 +418,116 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      else {  
-         Iterator itr = coll.iterator();
-         
-         // less than equal to
-         Collection<T> newList = Selector.range(coll, Selector.min(coll, comp), key, comp);
-         
-         // checking for values
-         if (newList.size() == 0) {
+      // a set in the same order already knows the answer
+      NavigableSet<T> set = navigableIn(coll, comp);
+      if (set != null) {
+         T floorValue = set.floor(key);
+         if (floorValue == null) {
             throw new NoSuchElementException();
          }
-         
-         // biggest values
-         T floorValue = Selector.max(newList, comp);
-         
          return floorValue;
       }
+      
+      // largest value <= key, in one pass
+      boolean found = false;
+      T floorValue = null;
+      List<T> list = indexed(coll);
+      if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T val = list.get(i);
+            if (comp.compare(val, key) <= 0
+                  && (!found || comp.compare(val, floorValue) > 0)) {
+               floorValue = val;
+               found = true;
+            }
+         }
+      }
+      else {
+         for (T val : coll) {
+            if (comp.compare(val, key) <= 0
+                  && (!found || comp.compare(val, floorValue) > 0)) {
+               floorValue = val;
+               found = true;
+            }
+         }
+      }
+      if (!found) {
+         throw new NoSuchElementException();
+      }
+      return floorValue;
+   }
+
+
+   /**
+    * Returns coll as a SortedSet if it is one whose order is the same
+    * as comp's; otherwise returns null.
+    */
+   static <T> SortedSet<T> sortedIn(Collection<T> coll, Comparator<T> comp) {
+      if ((coll instanceof SortedSet)
+            && sameOrder(((SortedSet<T>) coll).comparator(), comp)) {
+         return (SortedSet<T>) coll;
+      }
+      return null;
+   }
+
+
+   /**
+    * Returns coll as a NavigableSet if it is one whose order is the
+    * same as comp's; otherwise returns null.
+    */
+   private static <T> NavigableSet<T> navigableIn(Collection<T> coll, Comparator<T> comp) {
+      if ((coll instanceof NavigableSet)
+            && sameOrder(((NavigableSet<T>) coll).comparator(), comp)) {
+         return (NavigableSet<T>) coll;
+      }
+      return null;
    }
 
-}
 
+   /**
+    * Returns the view of set's values in [low..high], or null if there
+    * are none. The bounds are first moved onto the set's own values,
+    * since a subSet, headSet, or tailSet view rejects bounds outside
+    * its range.
+    */
+   private static <T> NavigableSet<T> rangeOf(NavigableSet<T> set, T low, T high,
+                                              Comparator<T> comp) {
+      T lo = set.ceiling(low);
+      T hi = set.floor(high);
+      if ((lo == null) || (hi == null) || (comp.compare(lo, hi) > 0)) {
+         return null;
+      }
+      return set.subSet(lo, true, hi, true);
+   }
+
+
+   /**
+    * Returns true if a collection ordered by order is ordered the same
+    * as comp. A null order means natural ordering, which matches only
+    * Comparator.naturalOrder().
+    */
+   static boolean sameOrder(Comparator<?> order, Comparator<?> comp) {
+      return (order == null) ? comp.equals(Comparator.naturalOrder())
+                             : order.equals(comp);
+   }
+
+
+   /**
+    * Returns coll as a List if it can be read by index in constant
+    * time; otherwise returns null.
+    */
+   private static <T> List<T> indexed(Collection<T> coll) {
+      if ((coll instanceof List) && (coll instanceof RandomAccess)) {
+         return (List<T>) coll;
+      }
+      return null;
+   }
+
+
+   /** Returns a copy of coll in an array sized from coll.size(). */
+   @SuppressWarnings("unchecked")
+   static <T> T[] toArray(Collection<T> coll) {
+      return (T[]) coll.toArray(new Object[coll.size()]);
+   }
+
+}